@@ -2,14 +2,15 @@ package ru.practicum.shareit.booking;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.booking.dto.BookingApprovalDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingState;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.ResponseCache;
+import ru.practicum.shareit.client.ServerExchange;
 
 import java.util.Map;
 
@@ -18,38 +19,55 @@ public class BookingClient extends BaseClient {
     private static final String API_PREFIX = "/bookings";
 
     @Autowired
-    public BookingClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public BookingClient(@Value("${shareit-server.url}") String serverUrl,
+                         ServerExchange exchange,
+                         ResponseCache cache) {
         super(
-                builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
-                        .build()
+                serverUrl + API_PREFIX,
+                exchange,
+                cache
         );
     }
 
-    public ResponseEntity<Object> createBooking(final Long userId,
-                                                final BookingDto bookingDto) {
+    public Mono<ResponseEntity<byte[]>> createBooking(final Long userId,
+                                                      final BookingDto bookingDto) {
 
         return post("", userId, bookingDto);
     }
 
-    public ResponseEntity<Object> approvedBooking(final Long userId,
-                                                  final Long bookingId,
-                                                  final Boolean approved) {
+    public Mono<ResponseEntity<byte[]>> approvedBooking(final Long userId,
+                                                        final Long bookingId,
+                                                        final Boolean approved) {
 
         Map<String, Object> parameters = Map.of("approved", approved);
-        return patch("/" + bookingId + "?approved={approved}", userId, parameters, null);
+        return evicting(patch("/" + bookingId + "?approved={approved}", userId, parameters, null), "/items/search");
     }
 
-    public ResponseEntity<Object> getBooking(final Long userId,
-                                             final Long bookingId) {
+    public Mono<ResponseEntity<byte[]>> approvedBookings(final Long userId,
+                                                         final BookingApprovalDto approvalDto) {
+
+        return evicting(patch("/batch", userId, approvalDto), "/items/search");
+    }
+
+    public Mono<ResponseEntity<byte[]>> getBooking(final Long userId,
+                                                   final Long bookingId) {
         return get("/" + bookingId, userId);
     }
 
-    public ResponseEntity<Object> getAllBookingsUser(final Long userId,
-                                                     final BookingState state,
-                                                     final Integer from,
-                                                     final Integer size) {
+    public Mono<ResponseEntity<byte[]>> getAllBookingsUser(final Long userId,
+                                                           final BookingState state,
+                                                           final Integer from,
+                                                           final Integer size,
+                                                           final String cursor) {
+        if (cursor != null) {
+            Map<String, Object> parameters = Map.of(
+                    "state", state.name(),
+                    "cursor", cursor,
+                    "size", size
+            );
+            return get("?state={state}&cursor={cursor}&size={size}", userId, parameters);
+        }
+
         Map<String, Object> parameters = Map.of(
                 "state", state.name(),
                 "from", from,
@@ -58,10 +76,20 @@ public class BookingClient extends BaseClient {
         return get("?state={state}&from={from}&size={size}", userId, parameters);
     }
 
-    public ResponseEntity<Object> getAllBookingsItemsUser(final Long userId,
-                                                          final BookingState state,
-                                                          final Integer from,
-                                                          final Integer size) {
+    public Mono<ResponseEntity<byte[]>> getAllBookingsItemsUser(final Long userId,
+                                                                final BookingState state,
+                                                                final Integer from,
+                                                                final Integer size,
+                                                                final String cursor) {
+
+        if (cursor != null) {
+            Map<String, Object> parameters = Map.of(
+                    "state", state.name(),
+                    "cursor", cursor,
+                    "size", size
+            );
+            return get("/owner?state={state}&cursor={cursor}&size={size}", userId, parameters);
+        }
 
         Map<String, Object> parameters = Map.of(
                 "state", state.name(),
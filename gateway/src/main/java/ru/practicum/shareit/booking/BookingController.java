@@ -8,6 +8,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.booking.dto.BookingApprovalDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingState;
 
@@ -20,52 +22,63 @@ public class BookingController {
     private final String userIdHead = "X-Sharer-User-Id";
 
     @PostMapping
-    public ResponseEntity<Object> createBooking(@RequestBody @Valid final BookingDto bookingDto,
-                                                @RequestHeader(userIdHead) final Long userId) {
+    public Mono<ResponseEntity<byte[]>> createBooking(@RequestBody @Valid final BookingDto bookingDto,
+                                                      @RequestHeader(userIdHead) final Long userId) {
 
         log.info("Post booking; userId={}, itemId={}", userId, bookingDto.getItemId());
         return bookingClient.createBooking(userId, bookingDto);
     }
 
+    @PatchMapping("/batch")
+    public Mono<ResponseEntity<byte[]>> approvedBookings(@RequestHeader(userIdHead) final Long userId,
+                                                         @RequestBody @Valid final BookingApprovalDto approvalDto) {
+
+        log.info("Patch bookings; userId={}, bookingIds={}, approved={}",
+                userId, approvalDto.getBookingIds(), approvalDto.getApproved());
+        return bookingClient.approvedBookings(userId, approvalDto);
+    }
+
     @PatchMapping("/{booking-id}")
-    public ResponseEntity<Object> approvedBooking(@RequestHeader(userIdHead) final Long userId,
-                                                  @PathVariable("booking-id") final Long bookingId,
-                                                  @RequestParam final Boolean approved) {
+    public Mono<ResponseEntity<byte[]>> approvedBooking(@RequestHeader(userIdHead) final Long userId,
+                                                        @PathVariable("booking-id") final Long bookingId,
+                                                        @RequestParam final Boolean approved) {
 
         log.info("Patch booking; userId={}, bookingId={}, approved={}", userId, bookingId, approved);
         return bookingClient.approvedBooking(userId, bookingId, approved);
     }
 
     @GetMapping("/{booking-id}")
-    public ResponseEntity<Object> getBooking(@RequestHeader(userIdHead) final Long userId,
-                                             @PathVariable("booking-id") final Long bookingId) {
+    public Mono<ResponseEntity<byte[]>> getBooking(@RequestHeader(userIdHead) final Long userId,
+                                                   @PathVariable("booking-id") final Long bookingId) {
         log.info("Get booking; bookingId={}, userId={}", bookingId, userId);
         return bookingClient.getBooking(userId, bookingId);
     }
 
     @GetMapping
-    public ResponseEntity<Object> getAllBookingsUser(@RequestHeader(userIdHead) final Long userId,
-                                                     @RequestParam(name = "state", defaultValue = "all") final String stateParam,
-                                                     @PositiveOrZero @RequestParam(name = "from", defaultValue = "0") final Integer from,
-                                                     @Positive @RequestParam(name = "size", defaultValue = "10") final Integer size) {
+    public Mono<ResponseEntity<byte[]>> getAllBookingsUser(@RequestHeader(userIdHead) final Long userId,
+                                                           @RequestParam(name = "state", defaultValue = "all") final String stateParam,
+                                                           @PositiveOrZero @RequestParam(name = "from", defaultValue = "0") final Integer from,
+                                                           @Positive @RequestParam(name = "size", defaultValue = "10") final Integer size,
+                                                           @RequestParam(name = "cursor", required = false) final String cursor) {
 
         BookingState state = BookingState.from(stateParam)
                 .orElseThrow(() -> new IllegalArgumentException("Unknown state: " + stateParam));
 
-        log.info("Get bookings user; state={}, userId={}, from={}, size={}", stateParam, userId, from, size);
-        return bookingClient.getAllBookingsUser(userId, state, from, size);
+        log.info("Get bookings user; state={}, userId={}, from={}, size={}, cursor={}", stateParam, userId, from, size, cursor);
+        return bookingClient.getAllBookingsUser(userId, state, from, size, cursor);
     }
 
     @GetMapping("/owner")
-    public ResponseEntity<Object> getAllBookingsItemsUser(@RequestHeader(userIdHead) final Long userId,
-                                                          @RequestParam(name = "state", defaultValue = "all") final String stateParam,
-                                                          @PositiveOrZero @RequestParam(name = "from", defaultValue = "0") final Integer from,
-                                                          @Positive @RequestParam(name = "size", defaultValue = "10") final Integer size) {
+    public Mono<ResponseEntity<byte[]>> getAllBookingsItemsUser(@RequestHeader(userIdHead) final Long userId,
+                                                                @RequestParam(name = "state", defaultValue = "all") final String stateParam,
+                                                                @PositiveOrZero @RequestParam(name = "from", defaultValue = "0") final Integer from,
+                                                                @Positive @RequestParam(name = "size", defaultValue = "10") final Integer size,
+                                                                @RequestParam(name = "cursor", required = false) final String cursor) {
 
         BookingState state = BookingState.from(stateParam)
                 .orElseThrow(() -> new IllegalArgumentException("Unknown state: " + stateParam));
 
-        log.info("Get bookings owner items user; state {}, userId={}, from={}, size={}", stateParam, userId, from, size);
-        return bookingClient.getAllBookingsItemsUser(userId, state, from, size);
+        log.info("Get bookings owner items user; state {}, userId={}, from={}, size={}, cursor={}", stateParam, userId, from, size, cursor);
+        return bookingClient.getAllBookingsItemsUser(userId, state, from, size, cursor);
     }
 }
\ No newline at end of file
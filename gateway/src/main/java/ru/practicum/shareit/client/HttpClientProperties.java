@@ -0,0 +1,23 @@
+package ru.practicum.shareit.client;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit-server.http")
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class HttpClientProperties {
+    int maxTotal = 200;
+    int maxPerRoute = 100;
+    Duration connectTimeout = Duration.ofSeconds(2);
+    Duration connectionRequestTimeout = Duration.ofSeconds(2);
+    Duration responseTimeout = Duration.ofSeconds(10);
+    Duration keepAlive = Duration.ofSeconds(30);
+    Duration validateAfterInactivity = Duration.ofSeconds(2);
+}
@@ -0,0 +1,103 @@
+package ru.practicum.shareit.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.util.DigestUtils;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+public class ResponseCache {
+    private static final int GENERATION_STRIPES = 1024;
+
+    final Cache<Key, CachedResponse> cache;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    private final long maxAge;
+
+    public ResponseCache(final ResponseCacheProperties properties) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        this.maxAge = properties.getMaxAge().toNanos();
+    }
+
+    Mono<ResponseEntity<byte[]>> get(final Key key, final Function<HttpHeaders, Mono<ResponseEntity<byte[]>>> loader) {
+        return Mono.defer(() -> {
+            long generation = generation(key.namespace());
+            CachedResponse cached = cache.getIfPresent(key);
+            if (cached != null && cached.generation() != generation)
+                cached = null;
+
+            if (cached != null && System.nanoTime() - cached.storedAt() < maxAge)
+                return Mono.just(cached.toResponse());
+
+            CachedResponse previous = cached;
+            HttpHeaders conditional = new HttpHeaders();
+            if (previous != null)
+                conditional.setIfNoneMatch(previous.etag());
+
+            return loader.apply(conditional).map(response -> {
+                if (previous != null && response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                    store(key, previous.revalidated());
+                    return previous.toResponse();
+                }
+
+                if (!response.getStatusCode().isSameCodeAs(HttpStatus.OK) || response.getBody() == null) {
+                    cache.invalidate(key);
+                    return response;
+                }
+
+                CachedResponse loaded = CachedResponse.of(response, generation);
+                store(key, loaded);
+                return loaded.toResponse();
+            });
+        });
+    }
+
+    public void evict(final String... namespaces) {
+        for (String namespace : namespaces)
+            generations.incrementAndGet(stripe(namespace));
+    }
+
+    private void store(final Key key, final CachedResponse response) {
+        if (response.generation() == generation(key.namespace()))
+            cache.put(key, response);
+    }
+
+    private long generation(final String namespace) {
+        return generations.get(stripe(namespace));
+    }
+
+    private static int stripe(final String namespace) {
+        return Math.floorMod(namespace.hashCode(), GENERATION_STRIPES);
+    }
+
+    record Key(String namespace, String path, @Nullable String query, @Nullable Long userId) {
+    }
+
+    private record CachedResponse(HttpHeaders headers, byte[] body, String etag, long generation, long storedAt) {
+        static CachedResponse of(final ResponseEntity<byte[]> response, final long generation) {
+            HttpHeaders headers = new HttpHeaders();
+            headers.addAll(response.getHeaders());
+            if (headers.getETag() == null)
+                headers.setETag("\"0" + DigestUtils.md5DigestAsHex(response.getBody()) + '"');
+
+            return new CachedResponse(headers, response.getBody(), headers.getETag(), generation, System.nanoTime());
+        }
+
+        CachedResponse revalidated() {
+            return new CachedResponse(headers, body, etag, generation, System.nanoTime());
+        }
+
+        ResponseEntity<byte[]> toResponse() {
+            return ResponseEntity.ok().headers(headers).body(body);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package ru.practicum.shareit.client;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit-server.cache")
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ResponseCacheProperties {
+    long maxSize = 10_000;
+    Duration maxAge = Duration.ofSeconds(30);
+    Duration ttl = Duration.ofMinutes(10);
+}
@@ -0,0 +1,51 @@
+package ru.practicum.shareit.filter;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveRequestBodyLimitFilter implements WebFilter {
+    private final long maxBodySize;
+
+    public ReactiveRequestBodyLimitFilter(@Value("${spring.codec.max-in-memory-size}") final DataSize maxBodySize) {
+        this.maxBodySize = maxBodySize.toBytes();
+    }
+
+    @Override
+    public Mono<Void> filter(final ServerWebExchange exchange, final WebFilterChain chain) {
+        if (exchange.getRequest().getHeaders().getContentLength() > maxBodySize)
+            return Mono.error(new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE));
+
+        AtomicLong read = new AtomicLong();
+        return chain.filter(exchange.mutate()
+                .request(new ServerHttpRequestDecorator(exchange.getRequest()) {
+                    @Override
+                    public Flux<DataBuffer> getBody() {
+                        return super.getBody().handle((buffer, sink) -> {
+                            if (read.addAndGet(buffer.readableByteCount()) <= maxBodySize) {
+                                sink.next(buffer);
+                                return;
+                            }
+                            DataBufferUtils.release(buffer);
+                            sink.error(new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE));
+                        });
+                    }
+                })
+                .build());
+    }
+}
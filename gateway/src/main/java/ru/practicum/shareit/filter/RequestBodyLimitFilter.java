@@ -0,0 +1,106 @@
+package ru.practicum.shareit.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class RequestBodyLimitFilter extends OncePerRequestFilter {
+    private final long maxBodySize;
+
+    public RequestBodyLimitFilter(@Value("${spring.codec.max-in-memory-size}") final DataSize maxBodySize) {
+        this.maxBodySize = maxBodySize.toBytes();
+    }
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request,
+                                    final HttpServletResponse response,
+                                    final FilterChain filterChain) throws ServletException, IOException {
+
+        if (request.getContentLengthLong() > maxBodySize) {
+            response.sendError(HttpStatus.PAYLOAD_TOO_LARGE.value());
+            return;
+        }
+
+        filterChain.doFilter(new LimitedRequest(request, maxBodySize), response);
+    }
+
+    private static class LimitedRequest extends HttpServletRequestWrapper {
+        private final long maxBodySize;
+        private ServletInputStream inputStream;
+
+        LimitedRequest(final HttpServletRequest request, final long maxBodySize) {
+            super(request);
+            this.maxBodySize = maxBodySize;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            if (inputStream == null)
+                inputStream = new LimitedInputStream(super.getInputStream(), maxBodySize);
+            return inputStream;
+        }
+    }
+
+    private static class LimitedInputStream extends ServletInputStream {
+        private final ServletInputStream delegate;
+        private final long maxBodySize;
+        private long read;
+
+        LimitedInputStream(final ServletInputStream delegate, final long maxBodySize) {
+            this.delegate = delegate;
+            this.maxBodySize = maxBodySize;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = delegate.read();
+            if (b != -1)
+                count(1);
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            int n = delegate.read(b, off, len);
+            if (n > 0)
+                count(n);
+            return n;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return delegate.isFinished();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setReadListener(final ReadListener readListener) {
+            delegate.setReadListener(readListener);
+        }
+
+        private void count(final int n) {
+            read += n;
+            if (read > maxBodySize)
+                throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE);
+        }
+    }
+}
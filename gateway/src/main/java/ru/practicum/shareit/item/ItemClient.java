@@ -2,15 +2,17 @@ package ru.practicum.shareit.item;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.ResponseCache;
+import ru.practicum.shareit.client.ServerExchange;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemIncDto;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 
 @Service
@@ -18,37 +20,53 @@ public class ItemClient extends BaseClient {
     private static final String API_PREFIX = "/items";
 
     @Autowired
-    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public ItemClient(@Value("${shareit-server.url}") String serverUrl,
+                      ServerExchange exchange,
+                      ResponseCache cache) {
         super(
-                builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
-                        .build()
+                serverUrl + API_PREFIX,
+                exchange,
+                cache
         );
     }
 
-    public ResponseEntity<Object> createItem(final ItemIncDto itemDto,
-                                             final Long userId) {
+    public Mono<ResponseEntity<byte[]>> createItem(final ItemIncDto itemDto,
+                                                   final Long userId) {
 
-        return post("", userId, itemDto);
+        return evicting(post("", userId, itemDto), "/items/search", "/requests");
     }
 
-    public ResponseEntity<Object> updateItem(final Long itemId,
-                                             final ItemIncDto itemDto,
-                                             final Long userId) {
+    public Mono<ResponseEntity<byte[]>> createItems(final List<ItemIncDto> itemDtos,
+                                                    final Long userId) {
 
-        return patch("/" + itemId, userId, itemDto);
+        return evicting(post("/bulk", userId, itemDtos), "/items/search", "/requests");
     }
 
-    public ResponseEntity<Object> getItem(final Long userId,
-                                          final Long itemId) {
+    public Mono<ResponseEntity<byte[]>> updateItem(final Long itemId,
+                                                   final ItemIncDto itemDto,
+                                                   final Long userId) {
+
+        return evicting(patch("/" + itemId, userId, itemDto), "/items/search", "/requests");
+    }
+
+    public Mono<ResponseEntity<byte[]>> getItem(final Long userId,
+                                                final Long itemId) {
 
         return get("/" + itemId, userId);
     }
 
-    public ResponseEntity<Object> getItemsUser(final Long userId,
-                                               final Integer from,
-                                               final Integer size) {
+    public Mono<ResponseEntity<byte[]>> getItemsUser(final Long userId,
+                                                     final Integer from,
+                                                     final Integer size,
+                                                     final String cursor) {
+
+        if (cursor != null) {
+            Map<String, Object> parameters = Map.of(
+                    "cursor", cursor,
+                    "size", size
+            );
+            return get("?cursor={cursor}&size={size}", userId, parameters);
+        }
 
         Map<String, Object> parameters = Map.of(
                 "from", from,
@@ -57,16 +75,33 @@ public class ItemClient extends BaseClient {
         return get("?from={from}&size={size}", userId, parameters);
     }
 
-    public ResponseEntity<Object> searchItems(final String text) {
+    public Mono<ResponseEntity<byte[]>> getAvailability(final Long itemId,
+                                                        final LocalDateTime from,
+                                                        final LocalDateTime to) {
+
+        Map<String, Object> parameters = Map.of(
+                "from", from,
+                "to", to
+        );
+        return get("/" + itemId + "/availability?from={from}&to={to}", null, parameters);
+    }
+
+    public Mono<ResponseEntity<byte[]>> searchItems(final String text,
+                                                    final Integer from,
+                                                    final Integer size) {
 
-        Map<String, Object> parameters = Map.of("text", text);
-        return get("/search?text={text}", null, parameters);
+        Map<String, Object> parameters = Map.of(
+                "text", text,
+                "from", from,
+                "size", size
+        );
+        return getCached("/items/search", "/search?text={text}&from={from}&size={size}", null, parameters);
     }
 
-    public ResponseEntity<Object> addComment(final Long userId,
-                                             final CommentDto comment,
-                                             final Long itemId) {
+    public Mono<ResponseEntity<byte[]>> addComment(final Long userId,
+                                                   final CommentDto comment,
+                                                   final Long itemId) {
 
-        return post("/" + itemId + "/comment", userId, comment);
+        return evicting(post("/" + itemId + "/comment", userId, comment), "/items/search");
     }
 }
\ No newline at end of file
@@ -1,16 +1,23 @@
 package ru.practicum.shareit.item;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemIncDto;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Controller
 @RequestMapping(path = "/items")
 @RequiredArgsConstructor
@@ -20,50 +27,70 @@ public class ItemController {
     private final String userIdHead = "X-Sharer-User-Id";
 
     @PostMapping
-    public ResponseEntity<Object> createItem(@RequestBody @Valid final ItemIncDto itemDto,
-                                             @RequestHeader(userIdHead) final Long userId) {
+    public Mono<ResponseEntity<byte[]>> createItem(@RequestBody @Valid final ItemIncDto itemDto,
+                                                   @RequestHeader(userIdHead) final Long userId) {
 
         log.info("POST create Item; userId={} ", userId);
         return client.createItem(itemDto, userId);
     }
 
+    @PostMapping("/bulk")
+    public Mono<ResponseEntity<byte[]>> createItems(@RequestBody @NotEmpty @Size(max = 5000) final List<@Valid ItemIncDto> itemDtos,
+                                                    @RequestHeader(userIdHead) final Long userId) {
+
+        log.info("POST create Items bulk; userId={}, size={} ", userId, itemDtos.size());
+        return client.createItems(itemDtos, userId);
+    }
+
     @PatchMapping("/{item-id}")
-    public ResponseEntity<Object> updateItem(@PathVariable("item-id") final Long itemId,
-                                             @RequestBody final ItemIncDto itemDto,
-                                             @RequestHeader(userIdHead) final Long userId) {
+    public Mono<ResponseEntity<byte[]>> updateItem(@PathVariable("item-id") final Long itemId,
+                                                   @RequestBody final ItemIncDto itemDto,
+                                                   @RequestHeader(userIdHead) final Long userId) {
 
         log.info("PATCH update Item; userId={}, itemId={} ", userId, itemId);
         return client.updateItem(itemId, itemDto, userId);
     }
 
     @GetMapping("/{item-id}")
-    public ResponseEntity<Object> getItem(@RequestHeader(userIdHead) final Long userId,
-                                          @PathVariable("item-id") final Long itemId) {
+    public Mono<ResponseEntity<byte[]>> getItem(@RequestHeader(userIdHead) final Long userId,
+                                                @PathVariable("item-id") final Long itemId) {
 
         log.info("GET Item; userId={}, itemId={} ", userId, itemId);
         return client.getItem(userId, itemId);
     }
 
     @GetMapping
-    public ResponseEntity<Object> getItemsUser(@RequestHeader(userIdHead) final Long userId,
-                                               @PositiveOrZero @RequestParam(name = "from", defaultValue = "0") final Integer from,
-                                               @Positive @RequestParam(name = "size", defaultValue = "10") final Integer size) {
+    public Mono<ResponseEntity<byte[]>> getItemsUser(@RequestHeader(userIdHead) final Long userId,
+                                                     @PositiveOrZero @RequestParam(name = "from", defaultValue = "0") final Integer from,
+                                                     @Positive @RequestParam(name = "size", defaultValue = "10") final Integer size,
+                                                     @RequestParam(name = "cursor", required = false) final String cursor) {
+
+        log.info("GET Items user; userId={}, from={}, size={}, cursor={}", userId, from, size, cursor);
+        return client.getItemsUser(userId, from, size, cursor);
+    }
+
+    @GetMapping("/{item-id}/availability")
+    public Mono<ResponseEntity<byte[]>> getAvailability(@PathVariable("item-id") final Long itemId,
+                                                        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime from,
+                                                        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime to) {
 
-        log.info("GET Items user; userId={}, from={}, size={}", userId, from, size);
-        return client.getItemsUser(userId, from, size);
+        log.info("GET Item availability; itemId={}, from={}, to={}", itemId, from, to);
+        return client.getAvailability(itemId, from, to);
     }
 
     @GetMapping("/search")
-    public ResponseEntity<Object> searchItems(@RequestParam final String text) {
+    public Mono<ResponseEntity<byte[]>> searchItems(@RequestParam final String text,
+                                                    @PositiveOrZero @RequestParam(name = "from", defaultValue = "0") final Integer from,
+                                                    @Positive @RequestParam(name = "size", defaultValue = "10") final Integer size) {
 
-        log.info("GET search Items; text={}", text);
-        return client.searchItems(text);
+        log.info("GET search Items; text={}, from={}, size={}", text, from, size);
+        return client.searchItems(text, from, size);
     }
 
     @PostMapping("/{item-id}/comment")
-    public ResponseEntity<Object> addComment(@RequestHeader(userIdHead) final Long userId,
-                                             @RequestBody @Valid final CommentDto comment,
-                                             @PathVariable("item-id") final Long itemId) {
+    public Mono<ResponseEntity<byte[]>> addComment(@RequestHeader(userIdHead) final Long userId,
+                                                   @RequestBody @Valid final CommentDto comment,
+                                                   @PathVariable("item-id") final Long itemId) {
 
         log.info("POST add Comment; userId={}, itemId={}", userId, itemId);
         return client.addComment(userId, comment, itemId);
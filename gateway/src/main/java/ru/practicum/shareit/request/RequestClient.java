@@ -2,12 +2,12 @@ package ru.practicum.shareit.request;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.ResponseCache;
+import ru.practicum.shareit.client.ServerExchange;
 import ru.practicum.shareit.request.dto.RequestDto;
 
 import java.util.Map;
@@ -17,28 +17,38 @@ public class RequestClient extends BaseClient {
     private static final String API_PREFIX = "/requests";
 
     @Autowired
-    public RequestClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public RequestClient(@Value("${shareit-server.url}") String serverUrl,
+                         ServerExchange exchange,
+                         ResponseCache cache) {
         super(
-                builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
-                        .build()
+                serverUrl + API_PREFIX,
+                exchange,
+                cache
         );
     }
 
-    public ResponseEntity<Object> createRequest(final Long userId,
-                                                final RequestDto requestDto) {
+    public Mono<ResponseEntity<byte[]>> createRequest(final Long userId,
+                                                      final RequestDto requestDto) {
 
         return post("", userId, requestDto);
     }
 
-    public ResponseEntity<Object> getRequestsUser(final Long userId) {
+    public Mono<ResponseEntity<byte[]>> getRequestsUser(final Long userId) {
         return get("", userId);
     }
 
-    public ResponseEntity<Object> getAllRequests(final Long userId,
-                                                 final Integer from,
-                                                 final Integer size) {
+    public Mono<ResponseEntity<byte[]>> getAllRequests(final Long userId,
+                                                       final Integer from,
+                                                       final Integer size,
+                                                       final String cursor) {
+        if (cursor != null) {
+            Map<String, Object> parameters = Map.of(
+                    "cursor", cursor,
+                    "size", size
+            );
+            return get("/all?cursor={cursor}&size={size}", userId, parameters);
+        }
+
         Map<String, Object> parameters = Map.of(
                 "from", from,
                 "size", size
@@ -46,7 +56,7 @@ public class RequestClient extends BaseClient {
         return get("/all?from={from}&size={size}", userId, parameters);
     }
 
-    public ResponseEntity<Object> getRequest(final Long requestId) {
-        return get("/" + requestId);
+    public Mono<ResponseEntity<byte[]>> getRequest(final Long requestId) {
+        return getCached("/requests", "/" + requestId);
     }
 }
@@ -8,6 +8,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.request.dto.RequestDto;
 
 @Controller
@@ -19,31 +20,32 @@ public class RequestController {
     private final String userIdHead = "X-Sharer-User-Id";
 
     @PostMapping
-    public ResponseEntity<Object> createRequest(@RequestHeader(userIdHead) final Long userId,
-                                                @RequestBody @Valid final RequestDto requestDto) {
+    public Mono<ResponseEntity<byte[]>> createRequest(@RequestHeader(userIdHead) final Long userId,
+                                                      @RequestBody @Valid final RequestDto requestDto) {
 
         log.info("Create request; userId={}", userId);
         return client.createRequest(userId, requestDto);
     }
 
     @GetMapping
-    public ResponseEntity<Object> getRequestsUser(@RequestHeader(userIdHead) final Long userId) {
+    public Mono<ResponseEntity<byte[]>> getRequestsUser(@RequestHeader(userIdHead) final Long userId) {
 
         log.info("Get user requests; userId={}", userId);
         return client.getRequestsUser(userId);
     }
 
     @GetMapping("/all")
-    public ResponseEntity<Object> getAllRequests(@RequestHeader(userIdHead) final Long userId,
-                                                 @PositiveOrZero @RequestParam(name = "from", defaultValue = "0") final Integer from,
-                                                 @Positive @RequestParam(name = "size", defaultValue = "10") final Integer size) {
+    public Mono<ResponseEntity<byte[]>> getAllRequests(@RequestHeader(userIdHead) final Long userId,
+                                                       @PositiveOrZero @RequestParam(name = "from", defaultValue = "0") final Integer from,
+                                                       @Positive @RequestParam(name = "size", defaultValue = "10") final Integer size,
+                                                       @RequestParam(name = "cursor", required = false) final String cursor) {
 
-        log.info("Get all requests; userId={}, from={}, size={}", userId, from, size);
-        return client.getAllRequests(userId, from, size);
+        log.info("Get all requests; userId={}, from={}, size={}, cursor={}", userId, from, size, cursor);
+        return client.getAllRequests(userId, from, size, cursor);
     }
 
     @GetMapping("/{request-id}")
-    public ResponseEntity<Object> getRequest(@PathVariable("request-id") final Long requestId) {
+    public Mono<ResponseEntity<byte[]>> getRequest(@PathVariable("request-id") final Long requestId) {
 
         log.info("Get request; requestId={}", requestId);
         return client.getRequest(requestId);
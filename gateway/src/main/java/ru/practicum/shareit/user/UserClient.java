@@ -2,12 +2,12 @@ package ru.practicum.shareit.user;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.ResponseCache;
+import ru.practicum.shareit.client.ServerExchange;
 import ru.practicum.shareit.exception.IncorrectEmailException;
 import ru.practicum.shareit.user.dto.UserDto;
 
@@ -18,16 +18,17 @@ public class UserClient extends BaseClient {
     private static final String API_PREFIX = "/users";
 
     @Autowired
-    public UserClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public UserClient(@Value("${shareit-server.url}") String serverUrl,
+                      ServerExchange exchange,
+                      ResponseCache cache) {
         super(
-                builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
-                        .build()
+                serverUrl + API_PREFIX,
+                exchange,
+                cache
         );
     }
 
-    public ResponseEntity<Object> createUser(final UserDto userDto) {
+    public Mono<ResponseEntity<byte[]>> createUser(final UserDto userDto) {
 
         if (userDto.getEmail() == null || userDto.getEmail().isEmpty())
             throw new IncorrectEmailException("Email не может быть пустым.");
@@ -35,22 +36,31 @@ public class UserClient extends BaseClient {
         return post("", userDto);
     }
 
-    public ResponseEntity<Object> updateUser(final Long userId,
-                                             final UserDto userDto) {
+    public Mono<ResponseEntity<byte[]>> updateUser(final Long userId,
+                                                   final UserDto userDto) {
 
-        return patch("/" + userId, userDto);
+        return evicting(patch("/" + userId, userDto), "/users/" + userId, "/items/search");
     }
 
-    public ResponseEntity<Object> getUser(final Long userId) {
-        return get("/" + userId);
+    public Mono<ResponseEntity<byte[]>> getUser(final Long userId) {
+        return getCached("/users/" + userId, "/" + userId);
     }
 
-    public ResponseEntity<Object> delUser(final Long userId) {
-        return delete("/" + userId);
+    public Mono<ResponseEntity<byte[]>> delUser(final Long userId) {
+        return evicting(delete("/" + userId), "/users/" + userId, "/items/search", "/requests");
     }
 
-    public ResponseEntity<Object> getAllUsers(final Integer from,
-                                              final Integer size) {
+    public Mono<ResponseEntity<byte[]>> getAllUsers(final Integer from,
+                                                    final Integer size,
+                                                    final String cursor) {
+
+        if (cursor != null) {
+            Map<String, Object> parameters = Map.of(
+                    "cursor", cursor,
+                    "size", size
+            );
+            return get("?cursor={cursor}&size={size}", null, parameters);
+        }
 
         Map<String, Object> parameters = Map.of(
                 "from", from,
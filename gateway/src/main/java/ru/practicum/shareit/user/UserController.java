@@ -8,6 +8,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.user.dto.UserDto;
 
 @Controller
@@ -18,38 +19,39 @@ public class UserController {
     private final UserClient client;
 
     @PostMapping
-    public ResponseEntity<Object> createUser(@RequestBody @Valid final UserDto userDto) {
+    public Mono<ResponseEntity<byte[]>> createUser(@RequestBody @Valid final UserDto userDto) {
         log.info("Post user");
         return client.createUser(userDto);
     }
 
     @PatchMapping("/{user-id}")
-    public ResponseEntity<Object> updateUser(@PathVariable("user-id") final Long userId,
-                                             @RequestBody @Valid final UserDto userDto) {
+    public Mono<ResponseEntity<byte[]>> updateUser(@PathVariable("user-id") final Long userId,
+                                                   @RequestBody @Valid final UserDto userDto) {
 
         log.info("PATCH update user; userId={}", userId);
         return client.updateUser(userId, userDto);
     }
 
     @GetMapping("/{user-id}")
-    public ResponseEntity<Object> getUser(@PathVariable("user-id") final Long userId) {
+    public Mono<ResponseEntity<byte[]>> getUser(@PathVariable("user-id") final Long userId) {
 
         log.info("GET user; userId={}", userId);
         return client.getUser(userId);
     }
 
     @DeleteMapping("/{user-id}")
-    public ResponseEntity<Object> delUser(@PathVariable("user-id") final Long userId) {
+    public Mono<ResponseEntity<byte[]>> delUser(@PathVariable("user-id") final Long userId) {
 
         log.info("DELETE user; userId={}", userId);
         return client.delUser(userId);
     }
 
     @GetMapping
-    public ResponseEntity<Object> getAllUsers(@PositiveOrZero @RequestParam(name = "from", defaultValue = "0") final Integer from,
-                                              @Positive @RequestParam(name = "size", defaultValue = "10") final Integer size) {
+    public Mono<ResponseEntity<byte[]>> getAllUsers(@PositiveOrZero @RequestParam(name = "from", defaultValue = "0") final Integer from,
+                                                    @Positive @RequestParam(name = "size", defaultValue = "10") final Integer size,
+                                                    @RequestParam(name = "cursor", required = false) final String cursor) {
 
-        log.info("GET all users; from={}, size={}", from, size);
-        return client.getAllUsers(from, size);
+        log.info("GET all users; from={}, size={}, cursor={}", from, size, cursor);
+        return client.getAllUsers(from, size, cursor);
     }
 }
\ No newline at end of file
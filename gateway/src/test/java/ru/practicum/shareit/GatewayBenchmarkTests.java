@@ -0,0 +1,64 @@
+package ru.practicum.shareit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.http.HttpClient;
+import java.util.concurrent.Executors;
+
+import static ru.practicum.shareit.ReactiveGatewayTests.baseUrl;
+import static ru.practicum.shareit.ServerStub.CONCURRENCY;
+
+@Slf4j
+@Tag("benchmark")
+public class GatewayBenchmarkTests {
+    private static ServerStub server;
+    private static ConfigurableApplicationContext reactiveGateway;
+    private static ConfigurableApplicationContext servletGateway;
+    private static ConfigurableApplicationContext virtualGateway;
+
+    @BeforeAll
+    static void startServers() throws Exception {
+        server = new ServerStub();
+
+        String[] args = {"--server.port=0", "--shareit-server.url=" + server.url(),
+                "--shareit-server.http.max-per-route=" + CONCURRENCY, "--server.tomcat.threads.max=10"};
+        reactiveGateway = new SpringApplicationBuilder(ShareItGateway.class)
+                .profiles("reactive")
+                .run(args);
+        servletGateway = new SpringApplicationBuilder(ShareItGateway.class)
+                .run(args);
+        virtualGateway = new SpringApplicationBuilder(ShareItGateway.class)
+                .profiles("virtual")
+                .run(args);
+    }
+
+    @AfterAll
+    static void stopServers() {
+        reactiveGateway.close();
+        servletGateway.close();
+        virtualGateway.close();
+        server.close();
+    }
+
+    @Test
+    void concurrentRequestsTest() throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        long servlet = ServerStub.runConcurrently(client, baseUrl(servletGateway));
+        long virtual = ServerStub.runConcurrently(client, baseUrl(virtualGateway));
+        long reactive = ServerStub.runConcurrently(client, baseUrl(reactiveGateway));
+
+        log.info("{} одновременных запросов при задержке сервера {} мс: servlet {} мс ({} запросов/с), виртуальные потоки {} мс ({} запросов/с), reactive {} мс ({} запросов/с)",
+                CONCURRENCY, ServerStub.DELAY_MS,
+                servlet, CONCURRENCY * 1000L / servlet, virtual, CONCURRENCY * 1000L / virtual,
+                reactive, CONCURRENCY * 1000L / reactive);
+    }
+}
@@ -0,0 +1,107 @@
+package ru.practicum.shareit;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+
+import static ru.practicum.shareit.ReactiveGatewayTests.baseUrl;
+
+public class GatewayBodySizeTests {
+    private static final int ITEMS = 3000;
+    private static final int TOO_MANY_ITEMS = 10000;
+
+    private static ServerStub server;
+    private static ConfigurableApplicationContext servletGateway;
+    private static ConfigurableApplicationContext reactiveGateway;
+
+    @BeforeAll
+    static void startServers() throws Exception {
+        server = new ServerStub();
+        String[] args = {"--server.port=0", "--shareit-server.url=" + server.url(),
+                "--spring.codec.max-in-memory-size=1MB"};
+        servletGateway = new SpringApplicationBuilder(ShareItGateway.class)
+                .run(args);
+        reactiveGateway = new SpringApplicationBuilder(ShareItGateway.class)
+                .profiles("reactive")
+                .run(args);
+    }
+
+    @AfterAll
+    static void stopServers() {
+        servletGateway.close();
+        reactiveGateway.close();
+        server.close();
+    }
+
+    @Test
+    void largeBulkPassedThroughServletGatewayTest() throws Exception {
+        assertBulkPassedThrough(baseUrl(servletGateway));
+    }
+
+    @Test
+    void largeBulkPassedThroughReactiveGatewayTest() throws Exception {
+        assertBulkPassedThrough(baseUrl(reactiveGateway));
+    }
+
+    @Test
+    void oversizedBulkRejectedByServletGatewayTest() throws Exception {
+        assertOversizedBulkRejected(baseUrl(servletGateway));
+    }
+
+    @Test
+    void oversizedBulkRejectedByReactiveGatewayTest() throws Exception {
+        assertOversizedBulkRejected(baseUrl(reactiveGateway));
+    }
+
+    private static void assertBulkPassedThrough(final String baseUrl) throws Exception {
+        String items = items(ITEMS);
+        Assertions.assertTrue(items.length() > 256 * 1024);
+
+        HttpResponse<String> response = postBulk(baseUrl, HttpRequest.BodyPublishers.ofString(items));
+
+        Assertions.assertEquals(200, response.statusCode());
+        Assertions.assertEquals(items.length(), response.body().length());
+    }
+
+    private static void assertOversizedBulkRejected(final String baseUrl) throws Exception {
+        byte[] items = items(TOO_MANY_ITEMS).getBytes(StandardCharsets.UTF_8);
+        Assertions.assertTrue(items.length > 1024 * 1024);
+
+        Assertions.assertEquals(413, postBulk(baseUrl, HttpRequest.BodyPublishers.ofByteArray(items)).statusCode());
+        Assertions.assertEquals(413, postBulk(baseUrl,
+                HttpRequest.BodyPublishers.ofInputStream(() -> new ByteArrayInputStream(items))).statusCode());
+    }
+
+    private static HttpResponse<String> postBulk(final String baseUrl,
+                                                 final HttpRequest.BodyPublisher body) throws Exception {
+        return HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(URI.create(baseUrl + "/items/bulk"))
+                        .header("X-Sharer-User-Id", "1")
+                        .header("Content-Type", "application/json")
+                        .POST(body)
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    static String items(final int count) {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 1; i <= count; i++) {
+            if (i > 1)
+                json.append(',');
+            json.append("{\"name\":\"item").append(i)
+                    .append("\",\"description\":\"").append("description ".repeat(8)).append(i)
+                    .append("\",\"available\":true,\"requestId\":null}");
+        }
+        return json.append(']').toString();
+    }
+}
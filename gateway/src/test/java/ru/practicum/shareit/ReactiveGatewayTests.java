@@ -0,0 +1,97 @@
+package ru.practicum.shareit;
+
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import ru.practicum.shareit.client.ServerExchange;
+import ru.practicum.shareit.client.WebClientExchange;
+
+public class ReactiveGatewayTests {
+    private static ServerStub server;
+    private static ConfigurableApplicationContext reactiveGateway;
+
+    @BeforeAll
+    static void startServers() throws Exception {
+        server = new ServerStub();
+        reactiveGateway = new SpringApplicationBuilder(ShareItGateway.class)
+                .profiles("reactive")
+                .run("--server.port=0", "--shareit-server.url=" + server.url());
+    }
+
+    @AfterAll
+    static void stopServers() {
+        reactiveGateway.close();
+        server.close();
+    }
+
+    @Test
+    void reactiveGatewayUsesNettyClientTest() {
+        Assertions.assertInstanceOf(WebClientExchange.class, reactiveGateway.getBean(ServerExchange.class));
+        Assertions.assertTrue(reactiveGateway.getBeansOfType(PoolingHttpClientConnectionManager.class).isEmpty());
+    }
+
+    @Test
+    void reactiveGatewayProxiesRequestsTest() {
+        WebTestClient client = WebTestClient.bindToServer()
+                .baseUrl(baseUrl(reactiveGateway))
+                .build();
+
+        client.get().uri("/bookings/owner?state=current&size=5")
+                .header("X-Sharer-User-Id", "7")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectHeader().valueEquals("X-Next-Cursor", "cursor")
+                .expectBody()
+                .jsonPath("$.uri").isEqualTo("/bookings/owner?state=CURRENT&from=0&size=5")
+                .jsonPath("$.user").isEqualTo("7");
+
+        client.get().uri("/requests/404")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.uri").isEqualTo("/requests/404");
+
+        client.get().uri("/items/search?text=drill&size=0")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        client.post().uri("/items")
+                .header("X-Sharer-User-Id", "7")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"name\":\"Drill\"}")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void cachedReadAnsweredWithNotModifiedTest() {
+        WebTestClient client = WebTestClient.bindToServer()
+                .baseUrl(baseUrl(reactiveGateway))
+                .build();
+
+        String etag = client.get().uri("/users/1")
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(byte[].class)
+                .getResponseHeaders()
+                .getETag();
+
+        Assertions.assertNotNull(etag);
+        client.get().uri("/users/1")
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isNotModified();
+    }
+
+    static String baseUrl(final ConfigurableApplicationContext context) {
+        return "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+    }
+}
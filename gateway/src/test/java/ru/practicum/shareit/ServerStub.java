@@ -0,0 +1,78 @@
+package ru.practicum.shareit;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.Assertions;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+
+class ServerStub implements AutoCloseable {
+    static final int CONCURRENCY = 128;
+    static final long DELAY_MS = 200;
+
+    private final HttpServer server;
+
+    ServerStub() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), CONCURRENCY);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/", exchange -> {
+            try {
+                Thread.sleep(DELAY_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            boolean missing = exchange.getRequestURI().getPath().endsWith("/404");
+            byte[] body = exchange.getRequestMethod().equals("POST")
+                    ? exchange.getRequestBody().readAllBytes()
+                    : ("{\"uri\":\"" + exchange.getRequestURI() + "\",\"user\":\""
+                       + exchange.getRequestHeaders().getFirst("X-Sharer-User-Id") + "\"}")
+                    .getBytes(StandardCharsets.UTF_8);
+
+            exchange.getResponseHeaders().set("Content-Type", MediaType.APPLICATION_JSON_VALUE);
+            exchange.getResponseHeaders().set("X-Next-Cursor", "cursor");
+            exchange.sendResponseHeaders(missing ? 404 : 200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+    }
+
+    String url() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    static long runConcurrently(final HttpClient client, final String baseUrl) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/bookings/1"))
+                .header("X-Sharer-User-Id", "1")
+                .GET()
+                .build();
+        for (int i = 0; i < 32; i++)
+            client.send(request, HttpResponse.BodyHandlers.discarding());
+
+        long start = System.nanoTime();
+        List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>(CONCURRENCY);
+        for (int i = 0; i < CONCURRENCY; i++)
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+        for (CompletableFuture<HttpResponse<Void>> response : responses)
+            Assertions.assertEquals(200, response.get().statusCode());
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
@@ -0,0 +1,74 @@
+package ru.practicum.shareit;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import ru.practicum.shareit.client.RestTemplateExchange;
+import ru.practicum.shareit.client.ServerExchange;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+
+import static ru.practicum.shareit.ReactiveGatewayTests.baseUrl;
+import static ru.practicum.shareit.ServerStub.CONCURRENCY;
+
+public class VirtualThreadGatewayTests {
+    private static ServerStub server;
+    private static ConfigurableApplicationContext virtualGateway;
+
+    @BeforeAll
+    static void startServers() throws Exception {
+        server = new ServerStub();
+
+        virtualGateway = new SpringApplicationBuilder(ShareItGateway.class)
+                .profiles("virtual")
+                .run("--server.port=0", "--shareit-server.url=" + server.url(),
+                        "--shareit-server.http.max-per-route=" + CONCURRENCY);
+    }
+
+    @AfterAll
+    static void stopServers() {
+        virtualGateway.close();
+        server.close();
+    }
+
+    @Test
+    void tomcatUsesVirtualThreadsTest() {
+        TomcatWebServer webServer =
+                (TomcatWebServer) ((ServletWebServerApplicationContext) virtualGateway).getWebServer();
+
+        Assertions.assertInstanceOf(VirtualThreadExecutor.class,
+                webServer.getTomcat().getConnector().getProtocolHandler().getExecutor());
+        Assertions.assertInstanceOf(RestTemplateExchange.class, virtualGateway.getBean(ServerExchange.class));
+    }
+
+    @Test
+    void concurrentRequestsDoNotPinVirtualThreadsTest() throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        List<RecordedEvent> pinned = new CopyOnWriteArrayList<>();
+        try (RecordingStream recording = new RecordingStream()) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            recording.onEvent("jdk.VirtualThreadPinned", pinned::add);
+            recording.startAsync();
+
+            ServerStub.runConcurrently(client, baseUrl(virtualGateway));
+            recording.stop();
+        }
+
+        Assertions.assertEquals(List.of(), pinned.stream().map(event -> event.getThread().getJavaName()).toList());
+    }
+}
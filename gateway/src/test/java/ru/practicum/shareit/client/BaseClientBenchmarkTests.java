@@ -0,0 +1,75 @@
+package ru.practicum.shareit.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+@Slf4j
+@Tag("benchmark")
+public class BaseClientBenchmarkTests {
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final ExchangeStub server = new ExchangeStub();
+    private final WebClient webClient = WebClient.builder().exchangeFunction(server).build();
+    private final BaseClient client = new BaseClient("",
+            new WebClientExchange(WebClient.builder().exchangeFunction(server).build()));
+
+    @BeforeEach
+    void createServer() {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 1; i <= 100; i++) {
+            if (i > 1)
+                json.append(',');
+            json.append("{\"id\":").append(i)
+                    .append(",\"name\":\"item").append(i)
+                    .append("\",\"description\":\"description").append(i)
+                    .append("\",\"available\":true,\"owner\":{\"id\":1,\"name\":\"user\",\"email\":\"user@email.com\"}}");
+        }
+
+        server.stub(HttpMethod.GET, "/items", ExchangeStub.json(HttpStatus.OK, json.append(']').toString()));
+    }
+
+    @Test
+    void passthroughAllocatesLessThanObjectTreeTest() {
+        long tree = allocatedBytes(() -> {
+            try {
+                ResponseEntity<Object> response = webClient.get().uri("/items")
+                        .retrieve()
+                        .toEntity(Object.class)
+                        .block();
+                return mapper.writeValueAsBytes(response.getBody());
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        long passthrough = allocatedBytes(() -> client.get("/items", 1L).block().getBody());
+
+        log.info("Выделено памяти на ответ из 100 вещей: дерево объектов {} байт, передача байтов {} байт",
+                tree, passthrough);
+        Assertions.assertTrue(passthrough < tree);
+    }
+
+    private long allocatedBytes(Supplier<byte[]> request) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        int warmUp = 200;
+        int requests = 1000;
+
+        for (int i = 0; i < warmUp; i++)
+            Assertions.assertTrue(request.get().length > 0);
+
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < requests; i++)
+            request.get();
+        return (threads.getCurrentThreadAllocatedBytes() - before) / requests;
+    }
+}
@@ -0,0 +1,85 @@
+package ru.practicum.shareit.client;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.*;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+
+public class BaseClientTests {
+    private final ExchangeStub server = new ExchangeStub();
+    private final BaseClient client = new BaseClient("",
+            new WebClientExchange(WebClient.builder().exchangeFunction(server).build()));
+    private String items;
+
+    @BeforeEach
+    void createServer() {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 1; i <= 100; i++) {
+            if (i > 1)
+                json.append(',');
+            json.append("{\"id\":").append(i)
+                    .append(",\"name\":\"item").append(i)
+                    .append("\",\"description\":\"description").append(i)
+                    .append("\",\"available\":true,\"owner\":{\"id\":1,\"name\":\"user\",\"email\":\"user@email.com\"}}");
+        }
+        items = json.append(']').toString();
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-Next-Cursor", "cursor");
+        headers.set(HttpHeaders.TRANSFER_ENCODING, "chunked");
+        server.stub(HttpMethod.GET, "/items", ExchangeStub.json(HttpStatus.OK, headers, items));
+        server.stub(HttpMethod.GET, "/items/1000",
+                ExchangeStub.json(HttpStatus.NOT_FOUND, "{\"error\":\"Вещь с id 1000 не найдена\"}"));
+    }
+
+    @Test
+    void responseBytesAndHeadersPassedThroughTest() {
+        ResponseEntity<byte[]> response = client.get("/items", 1L).block();
+
+        Assertions.assertEquals(HttpStatus.OK, response.getStatusCode());
+        Assertions.assertArrayEquals(items.getBytes(StandardCharsets.UTF_8), response.getBody());
+        Assertions.assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        Assertions.assertEquals("cursor", response.getHeaders().getFirst("X-Next-Cursor"));
+        Assertions.assertFalse(response.getHeaders().containsKey(HttpHeaders.TRANSFER_ENCODING));
+    }
+
+    @Test
+    void errorResponsePassedThroughTest() {
+        ResponseEntity<byte[]> response = client.get("/items/1000", 1L).block();
+
+        Assertions.assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        Assertions.assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        Assertions.assertEquals("{\"error\":\"Вещь с id 1000 не найдена\"}",
+                new String(response.getBody(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void errorResponsePassedThroughRestTemplateTest() {
+        RestTemplate rest = new RestTemplate();
+        MockRestServiceServer restServer = MockRestServiceServer.bindTo(rest).build();
+        restServer.expect(requestTo("http://localhost:9090/items/1000"))
+                .andExpect(header("X-Sharer-User-Id", "1"))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body("{\"error\":\"Вещь с id 1000 не найдена\"}"));
+
+        ResponseEntity<byte[]> response = new BaseClient("http://localhost:9090/items", new RestTemplateExchange(rest))
+                .get("/1000", 1L)
+                .block();
+
+        restServer.verify();
+        Assertions.assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        Assertions.assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        Assertions.assertEquals("{\"error\":\"Вещь с id 1000 не найдена\"}",
+                new String(response.getBody(), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,45 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+class ExchangeStub implements ExchangeFunction {
+    private final Map<String, Supplier<ClientResponse>> stubbed = new ConcurrentHashMap<>();
+
+    ExchangeStub stub(final HttpMethod method, final String url, final Supplier<ClientResponse> response) {
+        stubbed.put(method.name() + " " + url, response);
+        return this;
+    }
+
+    @Override
+    public Mono<ClientResponse> exchange(final ClientRequest request) {
+        String exchange = request.method().name() + " " + request.url();
+        Supplier<ClientResponse> response = stubbed.get(exchange);
+        if (response != null)
+            return Mono.just(response.get());
+
+        return Mono.error(new AssertionError("Неожиданный запрос к серверу: " + exchange));
+    }
+
+    static Supplier<ClientResponse> json(final HttpStatus status, final String body) {
+        return json(status, HttpHeaders.EMPTY, body);
+    }
+
+    static Supplier<ClientResponse> json(final HttpStatus status, final HttpHeaders headers, final String body) {
+        return () -> ClientResponse.create(status)
+                .headers(responseHeaders -> responseHeaders.addAll(headers))
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body)
+                .build();
+    }
+}
@@ -0,0 +1,41 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+
+import java.util.List;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {"shareit-server.http.max-total=7", "shareit-server.http.max-per-route=5"})
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+public class HttpClientConfigTests {
+    private final List<BaseClient> clients;
+    private final ServerExchange exchange;
+    private final ClientHttpRequestFactory requestFactory;
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final MeterRegistry meterRegistry;
+
+    @Test
+    void clientsShareConfiguredPoolTest() {
+        Assertions.assertEquals(4, clients.size());
+        clients.forEach(client -> Assertions.assertSame(exchange, client.exchange));
+        Assertions.assertSame(requestFactory, ((RestTemplateExchange) exchange).rest.getRequestFactory());
+
+        Assertions.assertEquals(7, connectionManager.getMaxTotal());
+        Assertions.assertEquals(5, connectionManager.getDefaultMaxPerRoute());
+    }
+
+    @Test
+    void poolMetricsRegisteredTest() {
+        Assertions.assertEquals(7, meterRegistry.get("httpcomponents.httpclient.pool.total.max")
+                .tag("httpclient", "shareit-server")
+                .gauge()
+                .value());
+    }
+}
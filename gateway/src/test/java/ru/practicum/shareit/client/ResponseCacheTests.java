@@ -0,0 +1,166 @@
+package ru.practicum.shareit.client;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "shareit-server.cache.max-age=1h")
+@AutoConfigureMockMvc
+@DirtiesContext
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+public class ResponseCacheTests {
+    private static final String SERVER_URL = "http://localhost:9090";
+    private static final String USER = "{\"id\":1,\"name\":\"user\",\"email\":\"user@email.com\"}";
+
+    private final MockMvc mvc;
+    private final ServerExchange exchange;
+    private final ResponseCache responseCache;
+
+    private MockRestServiceServer server;
+
+    @BeforeEach
+    void bindServer() {
+        responseCache.cache.invalidateAll();
+        server = MockRestServiceServer.bindTo(((RestTemplateExchange) exchange).rest).build();
+    }
+
+    @Test
+    void repeatedReadsServedFromCacheTest() throws Exception {
+        server.expect(ExpectedCount.once(), requestTo(SERVER_URL + "/users/1"))
+                .andRespond(withSuccess(USER, MediaType.APPLICATION_JSON).headers(etag("\"v1\"")));
+
+        for (int i = 0; i < 3; i++) {
+            perform(get("/users/1"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"v1\""))
+                    .andExpect(jsonPath("$.name").value("user"));
+        }
+        server.verify();
+    }
+
+    @Test
+    void ifNoneMatchAnsweredWithoutServerRoundTripTest() throws Exception {
+        server.expect(ExpectedCount.once(), requestTo(SERVER_URL + "/items/search?text=drill&from=0&size=10"))
+                .andRespond(withSuccess("[]", MediaType.APPLICATION_JSON).headers(etag("\"v1\"")));
+
+        perform(get("/items/search?text=drill"))
+                .andExpect(status().isOk());
+        perform(get("/items/search?text=drill")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))
+                .andExpect(status().isNotModified());
+        server.verify();
+    }
+
+    @Test
+    void writeEvictsCachedResponseTest() throws Exception {
+        server.expect(ExpectedCount.once(), requestTo(SERVER_URL + "/users/1"))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess(USER, MediaType.APPLICATION_JSON));
+        server.expect(ExpectedCount.once(), requestTo(SERVER_URL + "/users/1"))
+                .andExpect(method(HttpMethod.PATCH))
+                .andRespond(withSuccess(USER.replace("\"user\"", "\"updated\""), MediaType.APPLICATION_JSON));
+        server.expect(ExpectedCount.once(), requestTo(SERVER_URL + "/users/1"))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess(USER.replace("\"user\"", "\"updated\""), MediaType.APPLICATION_JSON));
+
+        perform(get("/users/1"))
+                .andExpect(jsonPath("$.name").value("user"));
+        perform(patch("/users/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"updated\"}"))
+                .andExpect(status().isOk());
+        perform(get("/users/1"))
+                .andExpect(jsonPath("$.name").value("updated"));
+        server.verify();
+    }
+
+    @Test
+    void staleResponseRevalidatedWithEtagTest() {
+        ResponseCacheProperties properties = new ResponseCacheProperties();
+        properties.setMaxAge(Duration.ZERO);
+        ResponseCache cache = new ResponseCache(properties);
+        ResponseCache.Key key = new ResponseCache.Key("/requests", "/requests/1", null, null);
+        byte[] body = "{\"id\":1}".getBytes(StandardCharsets.UTF_8);
+        List<HttpHeaders> conditionals = new ArrayList<>();
+
+        ResponseEntity<byte[]> first = cache.get(key, conditional -> {
+            conditionals.add(conditional);
+            return Mono.just(ResponseEntity.ok().eTag("\"v1\"").body(body));
+        }).block();
+        ResponseEntity<byte[]> second = cache.get(key, conditional -> {
+            conditionals.add(conditional);
+            return Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag("\"v1\"").<byte[]>build());
+        }).block();
+
+        Assertions.assertEquals(List.of(), conditionals.get(0).getIfNoneMatch());
+        Assertions.assertEquals(List.of("\"v1\""), conditionals.get(1).getIfNoneMatch());
+        Assertions.assertSame(body, first.getBody());
+        Assertions.assertEquals(HttpStatus.OK, second.getStatusCode());
+        Assertions.assertSame(body, second.getBody());
+    }
+
+    @Test
+    void responseLoadedDuringEvictionNotServedTest() {
+        ResponseCache cache = new ResponseCache(new ResponseCacheProperties());
+        ResponseCache.Key key = new ResponseCache.Key("/users/1", "/users/1", null, null);
+        byte[] body = USER.getBytes(StandardCharsets.UTF_8);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(key, conditional -> Mono.fromSupplier(() -> {
+            loads.incrementAndGet();
+            cache.evict("/users/1");
+            return ResponseEntity.ok(body);
+        })).block();
+        ResponseEntity<byte[]> second = cache.get(key, conditional -> Mono.fromSupplier(() -> {
+            loads.incrementAndGet();
+            return ResponseEntity.ok(body);
+        })).block();
+        ResponseEntity<byte[]> third = cache.get(key, conditional -> Mono.error(new AssertionError())).block();
+
+        Assertions.assertEquals(2, loads.get());
+        Assertions.assertNotNull(second.getHeaders().getETag());
+        Assertions.assertEquals(second.getHeaders().getETag(), third.getHeaders().getETag());
+    }
+
+    private ResultActions perform(final RequestBuilder builder) throws Exception {
+        return mvc.perform(asyncDispatch(mvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn()));
+    }
+
+    private static HttpHeaders etag(final String etag) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(etag);
+        return headers;
+    }
+}
@@ -2,10 +2,14 @@ package ru.practicum.shareit.booking;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.booking.annotations.BookingControllerExceptionHandler;
+import ru.practicum.shareit.booking.dto.model.BookingApprovalIncDto;
+import ru.practicum.shareit.booking.dto.model.BookingApprovalOutDto;
 import ru.practicum.shareit.booking.dto.model.BookingIncDto;
 import ru.practicum.shareit.booking.dto.model.BookingOutDto;
+import ru.practicum.shareit.pagination.Cursor;
 
 import java.util.List;
 
@@ -27,6 +31,15 @@ public class BookingController {
 
     }
 
+    @PatchMapping("/batch")
+    public List<BookingApprovalOutDto> approvedBookings(@RequestHeader(userIdHead) final Long userId,
+                                                        @RequestBody final BookingApprovalIncDto approvalDto) {
+
+        log.info("Patch bookings; userId={}, bookingIds={}, approved={}",
+                userId, approvalDto.getBookingIds(), approvalDto.getApproved());
+        return bookingService.approvedBookings(userId, approvalDto);
+    }
+
     @PatchMapping("/{booking-id}")
     public BookingOutDto approvedBooking(@RequestHeader(userIdHead) final Long userId,
                                          @PathVariable("booking-id") final Long bookingId,
@@ -45,22 +58,33 @@ public class BookingController {
     }
 
     @GetMapping
-    public List<BookingOutDto> getAllBookingsUser(@RequestHeader(userIdHead) final Long userId,
-                                                  @RequestParam final String state,
-                                                  @RequestParam final Integer from,
-                                                  @RequestParam final Integer size) {
+    public ResponseEntity<List<BookingOutDto>> getAllBookingsUser(@RequestHeader(userIdHead) final Long userId,
+                                                                  @RequestParam final String state,
+                                                                  @RequestParam(defaultValue = "0") final Integer from,
+                                                                  @RequestParam final Integer size,
+                                                                  @RequestParam(required = false) final String cursor) {
 
-        log.info("Get bookings user; state={}, userId={}, from={}, size={}", state, userId, from, size);
-        return bookingService.getAllBookingsUser(userId, state, from, size);
+        log.info("Get bookings user; state={}, userId={}, from={}, size={}, cursor={}", state, userId, from, size, cursor);
+        if (cursor != null)
+            return bookingService.getAllBookingsUserByCursor(userId, state, Cursor.decode(cursor), size)
+                    .toResponseEntity();
+
+        return ResponseEntity.ok(bookingService.getAllBookingsUser(userId, state, from, size));
     }
 
     @GetMapping("/owner")
-    public List<BookingOutDto> getAllBookingsItemsUser(@RequestHeader(userIdHead) final Long userId,
-                                                       @RequestParam final String state,
-                                                       @RequestParam final Integer from,
-                                                       @RequestParam final Integer size) {
+    public ResponseEntity<List<BookingOutDto>> getAllBookingsItemsUser(@RequestHeader(userIdHead) final Long userId,
+                                                                       @RequestParam final String state,
+                                                                       @RequestParam(defaultValue = "0") final Integer from,
+                                                                       @RequestParam final Integer size,
+                                                                       @RequestParam(required = false) final String cursor) {
+
+        log.info("Get bookings owner items user; state {}, userId={}, from={}, size={}, cursor={}",
+                state, userId, from, size, cursor);
+        if (cursor != null)
+            return bookingService.getAllBookingsItemsUserByCursor(userId, state, Cursor.decode(cursor), size)
+                    .toResponseEntity();
 
-        log.info("Get bookings owner items user; state {}, userId={}, from={}, size={}", state, userId, from, size);
-        return bookingService.getAllBookingsItemsUser(userId, state, from, size);
+        return ResponseEntity.ok(bookingService.getAllBookingsItemsUser(userId, state, from, size));
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package ru.practicum.shareit.booking;
 
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -64,4 +65,20 @@ public class BookingExceptionHandler {
     public ResponseEntity<ErrorResponse> handleIncorrectOwnerIdException(IncorrectOwnerIdException e) {
         return DefaultExceptionHandler.response(HttpStatus.BAD_REQUEST, e.getMessage(), path);
     }
-}
\ No newline at end of file
+
+    @ExceptionHandler(BookingOverlapException.class)
+    public ResponseEntity<ErrorResponse> handleBookingOverlapException(BookingOverlapException e) {
+        return DefaultExceptionHandler.response(HttpStatus.CONFLICT, e.getMessage(), path);
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(OptimisticLockingFailureException e) {
+        return DefaultExceptionHandler.response(HttpStatus.CONFLICT,
+                "Данные были изменены другим запросом, повторите попытку", path);
+    }
+
+    @ExceptionHandler(IncorrectCursorException.class)
+    public ResponseEntity<ErrorResponse> handleIncorrectCursorException(IncorrectCursorException e) {
+        return DefaultExceptionHandler.response(HttpStatus.BAD_REQUEST, e.getMessage(), path);
+    }
+}
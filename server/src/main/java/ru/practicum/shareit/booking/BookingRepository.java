@@ -1,116 +1,66 @@
 package ru.practicum.shareit.booking;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.*;
 import ru.practicum.shareit.booking.enums.BookingStatusEnum;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingShort;
 
 import java.time.LocalDateTime;
-
-public interface BookingRepository extends JpaRepository<Booking, Long> {
-
-    @Query("select b " +
-            "from Booking as b " +
-            "join User as u on b.booker.id = u.id " +
-            "where u.id = :userId " +
-            "order by b.start desc")
-    Page<Booking> findAllByBooker(long userId, Pageable paging);
-
-    @Query("select b " +
-            "from Booking as b " +
-            "join User as u on b.booker.id = u.id " +
-            "where u.id = :userId " +
-            "and b.start < :now " +
-            "and b.end > :now " +
-            "order by b.start")
-    Page<Booking> findAllByBookerForStatusCurrent(long userId, LocalDateTime now, Pageable paging);
-
-    @Query("select b " +
-            "from Booking as b " +
-            "join User as u on b.booker.id = u.id " +
-            "where u.id = :userId " +
-            "and b.end < :now " +
-            "order by b.start desc")
-    Page<Booking> findAllByBookerForStatusPast(long userId, LocalDateTime now, Pageable paging);
-
-    @Query("select b " +
-            "from Booking as b " +
-            "join User as u on b.booker.id = u.id " +
-            "where u.id = :userId " +
-            "and b.start > :now " +
-            "order by b.start desc")
-    Page<Booking> findAllByBookerForStatusFuture(long userId, LocalDateTime now, Pageable paging);
-
-    @Query("select b " +
-            "from Booking as b " +
-            "join User as u on b.booker.id = u.id " +
-            "where u.id = :userId " +
-            "and b.status = :status " +
-            "order by b.start desc")
-    Page<Booking> findAllByBookerForStatusWaitingOrRejected(long userId, BookingStatusEnum status, Pageable paging);
-
-    @Query("select b " +
-            "from Booking as b " +
-            "join Item as it on b.item.id = it.id " +
-            "join User as u on it.owner.id = u.id " +
-            "where u.id = :userId " +
-            "order by b.start desc")
-    Page<Booking> findAllBookingsItemsUser(long userId, Pageable paging);
-
-    @Query("select b " +
-            "from Booking as b " +
-            "join Item as it on b.item.id = it.id " +
-            "join User as u on it.owner.id = u.id " +
-            "where u.id = :userId " +
-            "and b.start < :now " +
-            "and b.end > :now " +
-            "order by b.start desc")
-    Page<Booking> findAllBookingsItemsUserForStatusCurrent(long userId, LocalDateTime now, Pageable paging);
-
-    @Query("select b " +
-            "from Booking as b " +
-            "join Item as it on b.item.id = it.id " +
-            "join User as u on it.owner.id = u.id " +
-            "where u.id = :userId " +
-            "and b.end < :now " +
-            "order by b.start desc")
-    Page<Booking> findAllBookingsItemsUserForStatusPast(long userId, LocalDateTime now, Pageable paging);
-
-    @Query("select b " +
-            "from Booking as b " +
-            "join Item as it on b.item.id = it.id " +
-            "join User as u on it.owner.id = u.id " +
-            "where u.id = :userId " +
-            "and b.start > :now " +
-            "order by b.start desc")
-    Page<Booking> findAllBookingsItemsUserForStatusFuture(long userId, LocalDateTime now, Pageable paging);
-
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface BookingRepository extends JpaRepository<Booking, Long>, BookingRowRepository {
+    @Override
+    @EntityGraph("Booking.detail")
+    Optional<Booking> findById(Long id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Booking as b " +
+            "set b.status = :status, b.version = b.version + 1 " +
+            "where b.id = :bookingId " +
+            "and b.status = :expected")
+    int updateStatus(Long bookingId, BookingStatusEnum expected, BookingStatusEnum status);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Booking as b " +
+            "set b.status = :status, b.version = b.version + 1 " +
+            "where b.id in :bookingIds " +
+            "and b.status = :expected")
+    int updateStatuses(Collection<Long> bookingIds, BookingStatusEnum expected, BookingStatusEnum status);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("select b " +
             "from Booking as b " +
-            "join Item as it on b.item.id = it.id " +
-            "join User as u on it.owner.id = u.id " +
-            "where u.id = :userId " +
-            "and b.status = :status " +
-            "order by b.start desc")
-    Page<Booking> findAllBookingsItemsUserForStatusWaitingOrRejected(long userId, BookingStatusEnum status, Pageable paging);
-
-    @Query("select b " +
-            "from Booking as b " +
-            "where b.item.id = :itemId " +
+            "where b.id in :bookingIds " +
+            "order by b.id")
+    List<Booking> lockAllByIdIn(Collection<Long> bookingIds);
+
+    List<Booking> findAllByIdGreaterThanAndStatusInAndEndAfterOrderById(Long afterId,
+                                                                        Collection<BookingStatusEnum> statuses,
+                                                                        LocalDateTime now,
+                                                                        Pageable paging);
+
+    @Query(value = "select id, start_time as startTime, end_time as endTime, " +
+            "item as itemId, booker as bookerId, status " +
+            "from (select b.*, row_number() over (partition by b.item order by b.end_time desc, b.id desc) as rn " +
+            "from bookings as b " +
+            "where b.item in (:itemIds) " +
             "and b.status = 'APPROVED' " +
-            "and b.start < :now " +
-            "order by b.end desc")
-    Page<Booking> findLastBooking(Long itemId, LocalDateTime now, Pageable paging);
-
-    @Query("select b " +
-            "from Booking as b " +
-            "where b.item.id = :itemId " +
-            "and b.start > :now " +
+            "and b.start_time < :now) as last_bookings " +
+            "where rn = 1 " +
+            "union all " +
+            "select id, start_time as startTime, end_time as endTime, " +
+            "item as itemId, booker as bookerId, status " +
+            "from (select b.*, row_number() over (partition by b.item order by b.start_time, b.id) as rn " +
+            "from bookings as b " +
+            "where b.item in (:itemIds) " +
             "and b.status <> 'REJECTED' " +
-            "order by b.start ")
-    Page<Booking> findNextBooking(Long itemId, LocalDateTime now, Pageable paging);
+            "and b.start_time > :now) as next_bookings " +
+            "where rn = 1", nativeQuery = true)
+    List<BookingShort> findLastAndNextBookings(Collection<Long> itemIds, LocalDateTime now);
 
     @Query("select b " +
             "from Booking as b " +
@@ -118,5 +68,5 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
             "and b.booker.id = :bookerId " +
             "and b.start < :now " +
             "and b.status = 'APPROVED' ")
-    Page<Booking> searchForBookerIdAndItemId(Long bookerId, Long itemId, LocalDateTime now, Pageable paging);
+    List<Booking> searchForBookerIdAndItemId(Long bookerId, Long itemId, LocalDateTime now, Pageable paging);
 }
\ No newline at end of file
@@ -0,0 +1,10 @@
+package ru.practicum.shareit.booking;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import ru.practicum.shareit.booking.model.BookingFilter;
+import ru.practicum.shareit.booking.model.BookingRow;
+
+public interface BookingRowRepository {
+    Slice<BookingRow> findBookingRows(BookingFilter filter, Pageable paging);
+}
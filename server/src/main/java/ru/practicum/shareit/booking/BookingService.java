@@ -1,7 +1,11 @@
 package ru.practicum.shareit.booking;
 
+import ru.practicum.shareit.booking.dto.model.BookingApprovalIncDto;
+import ru.practicum.shareit.booking.dto.model.BookingApprovalOutDto;
 import ru.practicum.shareit.booking.dto.model.BookingIncDto;
 import ru.practicum.shareit.booking.dto.model.BookingOutDto;
+import ru.practicum.shareit.pagination.Cursor;
+import ru.practicum.shareit.pagination.CursorPage;
 
 import java.util.List;
 
@@ -11,9 +15,15 @@ public interface BookingService {
 
     BookingOutDto approvedBooking(Long userId, Long bookingId, Boolean approved);
 
+    List<BookingApprovalOutDto> approvedBookings(Long userId, BookingApprovalIncDto approvalDto);
+
     BookingOutDto getBooking(Long userId, Long bookingId);
 
     List<BookingOutDto> getAllBookingsUser(Long userId, String state, Integer from, Integer size);
 
+    CursorPage<BookingOutDto> getAllBookingsUserByCursor(Long userId, String state, Cursor cursor, Integer size);
+
     List<BookingOutDto> getAllBookingsItemsUser(Long userId, String state, Integer from, Integer size);
+
+    CursorPage<BookingOutDto> getAllBookingsItemsUserByCursor(Long userId, String state, Cursor cursor, Integer size);
 }
@@ -0,0 +1,160 @@
+package ru.practicum.shareit.booking.calendar;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.enums.BookingStatusEnum;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.pagination.OffsetPageRequest;
+import ru.practicum.shareit.transaction.TransactionCallbacks;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookingCalendar {
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    private static final Set<BookingStatusEnum> BUSY_STATUSES = EnumSet.of(BookingStatusEnum.WAITING, BookingStatusEnum.APPROVED);
+    private static final Comparator<Interval> BY_START = Comparator.comparing(Interval::start)
+            .thenComparing(Interval::bookingId);
+    private static final Comparator<Interval> BY_END = Comparator.comparing(Interval::end)
+            .thenComparing(Interval::bookingId);
+    private static final NavigableSet<Interval> NO_BOOKINGS = Collections.unmodifiableNavigableSet(new TreeSet<>(BY_START));
+
+    private final BookingRepository bookingRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, NavigableSet<Interval>> items = new HashMap<>();
+    private final Map<Long, Interval> bookings = new HashMap<>();
+    private final NavigableSet<Interval> byEnd = new TreeSet<>(BY_END);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            items.clear();
+            bookings.clear();
+            byEnd.clear();
+
+            LocalDateTime now = LocalDateTime.now();
+            long lastId = 0;
+            List<Booking> batch;
+            do {
+                batch = bookingRepository.findAllByIdGreaterThanAndStatusInAndEndAfterOrderById(lastId, BUSY_STATUSES,
+                        now, OffsetPageRequest.of(0, REBUILD_BATCH_SIZE));
+                for (Booking booking : batch) {
+                    add(toInterval(booking));
+                    lastId = booking.getId();
+                }
+            } while (batch.size() == REBUILD_BATCH_SIZE);
+
+            log.info("Booking calendar rebuilt; items={}, bookings={}", items.size(), bookings.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void update(final Booking booking) {
+        Interval interval = toInterval(booking);
+        boolean busy = BUSY_STATUSES.contains(booking.getStatus());
+
+        TransactionCallbacks.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                remove(interval.bookingId());
+                if (busy && interval.end().isAfter(LocalDateTime.now()))
+                    add(interval);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${shareit.booking-calendar.prune-interval}")
+    public void prune() {
+        prune(LocalDateTime.now());
+    }
+
+    public void prune(final LocalDateTime now) {
+        int pruned = 0;
+
+        lock.writeLock().lock();
+        try {
+            while (!byEnd.isEmpty() && !byEnd.first().end().isAfter(now)) {
+                remove(byEnd.first().bookingId());
+                pruned++;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.debug("Booking calendar pruned; ended={}", pruned);
+    }
+
+    public List<Interval> findFree(final long itemId,
+                                   final LocalDateTime from,
+                                   final LocalDateTime to) {
+
+        List<Interval> free = new ArrayList<>();
+        LocalDateTime cursor = from;
+
+        lock.readLock().lock();
+        try {
+            NavigableSet<Interval> busy = items.getOrDefault(itemId, NO_BOOKINGS);
+            Interval first = Optional.ofNullable(busy.floor(bound(itemId, from, Long.MAX_VALUE)))
+                    .orElse(bound(itemId, from, Long.MIN_VALUE));
+
+            for (Interval interval : busy.subSet(first, true, bound(itemId, to, Long.MIN_VALUE), false)) {
+                if (interval.start().isAfter(cursor))
+                    free.add(new Interval(null, itemId, cursor, interval.start()));
+                if (interval.end().isAfter(cursor))
+                    cursor = interval.end();
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        if (cursor.isBefore(to))
+            free.add(new Interval(null, itemId, cursor, to));
+
+        return free;
+    }
+
+    private void add(final Interval interval) {
+        items.computeIfAbsent(interval.itemId(), key -> new TreeSet<>(BY_START)).add(interval);
+        bookings.put(interval.bookingId(), interval);
+        byEnd.add(interval);
+    }
+
+    private void remove(final long bookingId) {
+        Interval interval = bookings.remove(bookingId);
+        if (interval == null)
+            return;
+
+        byEnd.remove(interval);
+        NavigableSet<Interval> busy = items.get(interval.itemId());
+        busy.remove(interval);
+        if (busy.isEmpty())
+            items.remove(interval.itemId());
+    }
+
+    private static Interval bound(final long itemId,
+                                  final LocalDateTime time,
+                                  final long bookingId) {
+        return new Interval(bookingId, itemId, time, time);
+    }
+
+    private static Interval toInterval(final Booking booking) {
+        return new Interval(booking.getId(), booking.getItem().getId(), booking.getStart(), booking.getEnd());
+    }
+
+    public record Interval(Long bookingId, long itemId, LocalDateTime start, LocalDateTime end) {
+    }
+}
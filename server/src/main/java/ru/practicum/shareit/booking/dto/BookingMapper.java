@@ -6,9 +6,16 @@ import ru.practicum.shareit.booking.dto.model.BookingOutDto;
 import ru.practicum.shareit.booking.dto.model.BookingWithItemsDto;
 import ru.practicum.shareit.booking.enums.BookingStatusEnum;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingRow;
+import ru.practicum.shareit.booking.model.BookingShort;
 import ru.practicum.shareit.item.dto.ItemMapper;
+import ru.practicum.shareit.item.dto.model.ItemOutDto;
+import ru.practicum.shareit.request.dto.model.RequestOutDto;
+import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.dto.UserMapper;
 
+import java.time.temporal.ChronoUnit;
+
 @Component
 public class BookingMapper {
     private final ItemMapper itemMapper = new ItemMapper();
@@ -17,11 +24,12 @@ public class BookingMapper {
     public Booking toBookingFromBookingIncDto(BookingIncDto booking) {
         if (booking == null) return null;
         return new Booking(null,
-                booking.getStart(),
-                booking.getEnd(),
+                booking.getStart().truncatedTo(ChronoUnit.MICROS),
+                booking.getEnd().truncatedTo(ChronoUnit.MICROS),
                 null,
                 null,
-                BookingStatusEnum.WAITING);
+                BookingStatusEnum.WAITING,
+                null);
     }
 
     public BookingOutDto toBookingOutDtoFromBooking(Booking booking) {
@@ -34,6 +42,30 @@ public class BookingMapper {
                 booking.getStatus());
     }
 
+    public BookingOutDto toBookingOutDtoFromBookingRow(BookingRow booking) {
+        if (booking == null) return null;
+        ItemOutDto item = new ItemOutDto(booking.getItemId(),
+                booking.getItemName(),
+                booking.getItemDescription(),
+                new UserDto(booking.getOwnerId(), booking.getOwnerName(), booking.getOwnerEmail()),
+                booking.getItemNumberOfRentals(),
+                booking.getItemAvailable(),
+                null,
+                null);
+
+        if (booking.getRequestId() != null)
+            item.setRequest(new RequestOutDto(booking.getRequestId(),
+                    booking.getRequestDescription(),
+                    booking.getRequestCreated()));
+
+        return new BookingOutDto(booking.getId(),
+                booking.getStart(),
+                booking.getEnd(),
+                item,
+                new UserDto(booking.getBookerId(), booking.getBookerName(), booking.getBookerEmail()),
+                booking.getStatus());
+    }
+
     public BookingWithItemsDto toBookingWithItemsDtoFromBooking(Booking booking) {
         if (booking == null) return null;
         return new BookingWithItemsDto(booking.getId(),
@@ -43,4 +75,14 @@ public class BookingMapper {
                 booking.getBooker().getId(),
                 booking.getStatus());
     }
+
+    public BookingWithItemsDto toBookingWithItemsDtoFromBookingShort(BookingShort booking) {
+        if (booking == null) return null;
+        return new BookingWithItemsDto(booking.getId(),
+                booking.getStartTime(),
+                booking.getEndTime(),
+                booking.getItemId(),
+                booking.getBookerId(),
+                BookingStatusEnum.valueOf(booking.getStatus()));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package ru.practicum.shareit.booking.dto.model;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class BookingApprovalIncDto {
+    List<Long> bookingIds;
+    Boolean approved;
+}
@@ -0,0 +1,17 @@
+package ru.practicum.shareit.booking.dto.model;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+import ru.practicum.shareit.booking.enums.BookingStatusEnum;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class BookingApprovalOutDto {
+    Long bookingId;
+    BookingStatusEnum status;
+    String error;
+}
@@ -0,0 +1,6 @@
+package ru.practicum.shareit.booking.enums;
+
+public enum BookingRoleEnum {
+    BOOKER,
+    OWNER
+}
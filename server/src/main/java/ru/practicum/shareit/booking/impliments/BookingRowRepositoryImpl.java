@@ -0,0 +1,109 @@
+package ru.practicum.shareit.booking.impliments;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.*;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import ru.practicum.shareit.booking.BookingRowRepository;
+import ru.practicum.shareit.booking.enums.BookingRoleEnum;
+import ru.practicum.shareit.booking.enums.BookingStatusEnum;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingFilter;
+import ru.practicum.shareit.booking.model.BookingRow;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.model.Request;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class BookingRowRepositoryImpl implements BookingRowRepository {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Slice<BookingRow> findBookingRows(final BookingFilter filter,
+                                             final Pageable paging) {
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<BookingRow> query = cb.createQuery(BookingRow.class);
+
+        Root<Booking> booking = query.from(Booking.class);
+        Join<Booking, Item> item = booking.join("item");
+        Join<Item, User> owner = item.join("owner");
+        Join<Item, Request> request = item.join("request", JoinType.LEFT);
+        Join<Booking, User> booker = booking.join("booker");
+
+        query.select(cb.construct(BookingRow.class,
+                booking.get("id"), booking.get("start"), booking.get("end"), booking.get("status"),
+                item.get("id"), item.get("name"), item.get("description"),
+                item.get("numberOfRentals"), item.get("available"),
+                owner.get("id"), owner.get("name"), owner.get("email"),
+                request.get("id"), request.get("description"), request.get("created"),
+                booker.get("id"), booker.get("name"), booker.get("email")));
+        query.where(predicates(cb, booking, item, filter).toArray(new Predicate[0]));
+
+        Path<LocalDateTime> start = booking.get("start");
+        query.orderBy(filter.getDirection() == Sort.Direction.ASC ? cb.asc(start) : cb.desc(start),
+                cb.asc(booking.get("id")));
+
+        List<BookingRow> rows = entityManager.createQuery(query)
+                .setFirstResult((int) paging.getOffset())
+                .setMaxResults(paging.getPageSize() + 1)
+                .getResultList();
+
+        boolean hasNext = rows.size() > paging.getPageSize();
+        return new SliceImpl<>(hasNext ? rows.subList(0, paging.getPageSize()) : rows, paging, hasNext);
+    }
+
+    private List<Predicate> predicates(final CriteriaBuilder cb,
+                                       final Root<Booking> booking,
+                                       final Join<Booking, Item> item,
+                                       final BookingFilter filter) {
+
+        List<Predicate> predicates = new ArrayList<>();
+        Path<LocalDateTime> start = booking.get("start");
+        Path<LocalDateTime> end = booking.get("end");
+        Path<Long> id = booking.get("id");
+
+        if (filter.getUserId() != null)
+            predicates.add(filter.getRole() == BookingRoleEnum.OWNER
+                    ? cb.equal(item.get("owner").get("id"), filter.getUserId())
+                    : cb.equal(booking.get("booker").get("id"), filter.getUserId()));
+
+        switch (filter.getState()) {
+            case CURRENT -> {
+                predicates.add(cb.lessThan(start, filter.getNow()));
+                predicates.add(cb.greaterThan(end, filter.getNow()));
+            }
+            case PAST -> predicates.add(cb.lessThan(end, filter.getNow()));
+            case FUTURE -> predicates.add(cb.greaterThan(start, filter.getNow()));
+            case WAITING -> predicates.add(cb.equal(booking.get("status"), BookingStatusEnum.WAITING));
+            case REJECTED -> predicates.add(cb.equal(booking.get("status"), BookingStatusEnum.REJECTED));
+            default -> {
+            }
+        }
+
+        if (filter.getItemId() != null)
+            predicates.add(cb.equal(booking.get("item").get("id"), filter.getItemId()));
+
+        if (filter.getRangeStart() != null)
+            predicates.add(cb.greaterThan(end, filter.getRangeStart()));
+
+        if (filter.getRangeEnd() != null)
+            predicates.add(cb.lessThan(start, filter.getRangeEnd()));
+
+        if (filter.getAfterStart() != null)
+            predicates.add(cb.or(
+                    filter.getDirection() == Sort.Direction.ASC
+                            ? cb.greaterThan(start, filter.getAfterStart())
+                            : cb.lessThan(start, filter.getAfterStart()),
+                    cb.and(cb.equal(start, filter.getAfterStart()), cb.greaterThan(id, filter.getAfterId()))));
+
+        return predicates;
+    }
+}
@@ -1,43 +1,71 @@
 package ru.practicum.shareit.booking.impliments;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.BookingRepository;
 import ru.practicum.shareit.booking.BookingService;
+import ru.practicum.shareit.booking.calendar.BookingCalendar;
 import ru.practicum.shareit.booking.dto.BookingMapper;
+import ru.practicum.shareit.booking.dto.model.BookingApprovalIncDto;
+import ru.practicum.shareit.booking.dto.model.BookingApprovalOutDto;
 import ru.practicum.shareit.booking.dto.model.BookingIncDto;
 import ru.practicum.shareit.booking.dto.model.BookingOutDto;
+import ru.practicum.shareit.booking.enums.BookingRoleEnum;
 import ru.practicum.shareit.booking.enums.BookingStateEnum;
 import ru.practicum.shareit.booking.enums.BookingStatusEnum;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingFilter;
+import ru.practicum.shareit.booking.model.BookingRow;
+import ru.practicum.shareit.cache.CacheEvictor;
 import ru.practicum.shareit.exception.*;
 import ru.practicum.shareit.item.ItemRepository;
-import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.dto.ItemMapper;
+import ru.practicum.shareit.pagination.Cursor;
+import ru.practicum.shareit.pagination.CursorPage;
+import ru.practicum.shareit.pagination.OffsetPageRequest;
 import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.user.UserValidationService;
+import ru.practicum.shareit.user.dto.UserMapper;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.stream.Stream;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class BookingServiceImpl implements BookingService {
+    private static final String EXCLUSION_VIOLATION = "23P01";
+
     private final BookingRepository bookingRepository;
     private final UserRepository userRepository;
+    private final UserValidationService userValidationService;
     private final ItemRepository itemRepository;
     private final BookingMapper bookingMapper;
+    private final BookingCalendar bookingCalendar;
+    private final UserMapper userMapper;
+    private final ItemMapper itemMapper;
+    private final CacheEvictor cacheEvictor;
 
     @Override
+    @Transactional
     public BookingOutDto createBooking(final BookingIncDto bookingIncDto,
                                        final Long userId) {
 
         Booking booking = bookingMapper.toBookingFromBookingIncDto(bookingIncDto);
-        booking.setBooker(userRepository.findById(userId)
+        booking.setBooker(userRepository.findCachedById(userId)
+                .map(userMapper::toUserFromUserRow)
                 .orElseThrow(() -> new IncorrectUserIdException("Пользователь с id " + userId + " не найден")));
 
-        booking.setItem(itemRepository.findById(bookingIncDto.getItemId())
+        booking.setItem(itemRepository.findCachedById(bookingIncDto.getItemId())
+                .map(itemMapper::toItemFromItemRow)
                 .orElseThrow(() -> new IncorrectItemIdException("Предмет с id " + bookingIncDto.getItemId() + " не найден")));
 
         if (!booking.getItem().getAvailable())
@@ -52,11 +80,21 @@ public class BookingServiceImpl implements BookingService {
             throw new FailCreateBookingOwnerItem("Владелец вещи не может ее забронировать");
 
         booking.setStatus(BookingStatusEnum.WAITING);
-        booking = bookingRepository.save(booking);
+        try {
+            booking = bookingRepository.saveAndFlush(booking);
+        } catch (DataIntegrityViolationException e) {
+            if (!isExclusionViolation(e))
+                throw e;
+
+            throw new BookingOverlapException("Предмет с id " + booking.getItem().getId() +
+                                              " уже забронирован на указанный период");
+        }
+        bookingCalendar.update(booking);
         return bookingMapper.toBookingOutDtoFromBooking(booking);
     }
 
     @Override
+    @Transactional
     public BookingOutDto approvedBooking(final Long userId,
                                          final Long bookingId,
                                          final Boolean approved) {
@@ -76,23 +114,76 @@ public class BookingServiceImpl implements BookingService {
         if (booking.getStatus().equals(BookingStatusEnum.CANCELED))
             throw new FailApprovedBookingException("Бронирование отменено пользователем");
 
-        if (approved) {
-            booking.setStatus(BookingStatusEnum.APPROVED);
-            Item item = booking.getItem();
-
-            if (item.getNumberOfRentals() != null) {
-                item.setNumberOfRentals(item.getNumberOfRentals() + 1);
-            } else item.setNumberOfRentals(1);
+        BookingStatusEnum status;
+        if (approved)
+            status = BookingStatusEnum.APPROVED;
+        else if (booking.getBooker().getId().equals(userId))
+            status = BookingStatusEnum.CANCELED;
+        else status = BookingStatusEnum.REJECTED;
 
-            itemRepository.save(item);
+        if (bookingRepository.updateStatus(bookingId, BookingStatusEnum.WAITING, status) == 0)
+            throw new FailApprovedBookingException("Статус бронирования с id " + bookingId + " уже изменён");
 
-        } else if (booking.getBooker().getId().equals(userId))
-            booking.setStatus(BookingStatusEnum.CANCELED);
+        if (approved) {
+            itemRepository.incrementNumberOfRentals(booking.getItem().getId());
+            cacheEvictor.evictItems(List.of(booking.getItem().getId()));
+        }
 
-        else booking.setStatus(BookingStatusEnum.REJECTED);
+        Booking updatedBooking = bookingRepository.findById(bookingId)
+                .orElseThrow(() -> new IncorrectBookingIdException("Бронирование с id " + bookingId + " не найдено"));
+        bookingCalendar.update(updatedBooking);
+        return bookingMapper.toBookingOutDtoFromBooking(updatedBooking);
+    }
 
-        bookingRepository.save(booking);
-        return bookingMapper.toBookingOutDtoFromBooking(booking);
+    @Override
+    @Transactional
+    public List<BookingApprovalOutDto> approvedBookings(final Long userId,
+                                                        final BookingApprovalIncDto approvalDto) {
+
+        List<Long> bookingIds = approvalDto.getBookingIds().stream().distinct().toList();
+        Map<Long, Booking> bookings = bookingRepository.lockAllByIdIn(bookingIds).stream()
+                .collect(Collectors.toMap(Booking::getId, Function.identity()));
+        Set<Long> ownItemIds = new HashSet<>(itemRepository.findIdsByIdInAndOwnerId(
+                bookings.values().stream().map(booking -> booking.getItem().getId()).collect(Collectors.toSet()), userId));
+
+        BookingStatusEnum status = approvalDto.getApproved() ? BookingStatusEnum.APPROVED : BookingStatusEnum.REJECTED;
+        List<BookingApprovalOutDto> results = new ArrayList<>(bookingIds.size());
+        List<Booking> accepted = new ArrayList<>();
+        for (Long bookingId : bookingIds) {
+            Booking booking = bookings.get(bookingId);
+            if (booking == null)
+                results.add(new BookingApprovalOutDto(bookingId, null, "Бронирование с id " + bookingId + " не найдено"));
+            else if (!ownItemIds.contains(booking.getItem().getId()))
+                results.add(new BookingApprovalOutDto(bookingId, null, "Бронирование может подтвердить только владелец вещи"));
+            else if (booking.getStatus().equals(BookingStatusEnum.CANCELED))
+                results.add(new BookingApprovalOutDto(bookingId, booking.getStatus(), "Бронирование отменено пользователем"));
+            else if (!booking.getStatus().equals(BookingStatusEnum.WAITING))
+                results.add(new BookingApprovalOutDto(bookingId, booking.getStatus(),
+                        "Подтверждение бронирования уже произошло. Статус бронирования: " + booking.getStatus()));
+            else {
+                results.add(new BookingApprovalOutDto(bookingId, status, null));
+                accepted.add(booking);
+            }
+        }
+
+        if (accepted.isEmpty())
+            return results;
+
+        List<Long> acceptedIds = accepted.stream().map(Booking::getId).toList();
+        bookingRepository.updateStatuses(acceptedIds, BookingStatusEnum.WAITING, status);
+
+        if (approvalDto.getApproved()) {
+            Set<Long> itemIds = accepted.stream().map(booking -> booking.getItem().getId()).collect(Collectors.toSet());
+            itemRepository.lockAllByIdIn(itemIds);
+            itemRepository.addNumberOfRentals(itemIds, acceptedIds);
+            cacheEvictor.evictItems(itemIds);
+        }
+
+        for (Booking booking : accepted) {
+            booking.setStatus(status);
+            bookingCalendar.update(booking);
+        }
+        return results;
     }
 
     @Override
@@ -115,29 +206,20 @@ public class BookingServiceImpl implements BookingService {
                                                   final Integer from,
                                                   final Integer size) {
 
-        Pageable paging = PageRequest.of(from, size);
+        return findBookings(BookingRoleEnum.BOOKER, userId, state, null, null, OffsetPageRequest.of(from, size))
+                .map(bookingMapper::toBookingOutDtoFromBookingRow)
+                .getContent();
+    }
 
-        BookingStateEnum stateEnum = BookingStateEnum.from(state);
-        userRepository.findById(userId)
-                .orElseThrow(() -> new IncorrectUserIdException("Пользователь с id " + userId + " не найден"));
-
-        Stream<Booking> stream = switch (stateEnum) {
-            case CURRENT -> bookingRepository
-                    .findAllByBookerForStatusCurrent(userId, LocalDateTime.now(), paging).stream();
-            case PAST -> bookingRepository
-                    .findAllByBookerForStatusPast(userId, LocalDateTime.now(), paging).stream();
-            case FUTURE -> bookingRepository
-                    .findAllByBookerForStatusFuture(userId, LocalDateTime.now(), paging).stream();
-            case WAITING -> bookingRepository
-                    .findAllByBookerForStatusWaitingOrRejected(userId, BookingStatusEnum.WAITING, paging).stream();
-            case REJECTED -> bookingRepository
-                    .findAllByBookerForStatusWaitingOrRejected(userId, BookingStatusEnum.REJECTED, paging).stream();
-            default -> bookingRepository
-                    .findAllByBooker(userId, paging).stream();
-        };
-        return stream
-                .map(bookingMapper::toBookingOutDtoFromBooking)
-                .toList();
+    @Override
+    public CursorPage<BookingOutDto> getAllBookingsUserByCursor(final Long userId,
+                                                                final String state,
+                                                                final Cursor cursor,
+                                                                final Integer size) {
+
+        return CursorPage.of(findBookings(BookingRoleEnum.BOOKER, userId, state, cursor.getTime(), cursor.getId(), OffsetPageRequest.of(0, size)),
+                        booking -> Cursor.encode(booking.getStart(), booking.getId()))
+                .map(bookingMapper::toBookingOutDtoFromBookingRow);
     }
 
     @Override
@@ -146,28 +228,49 @@ public class BookingServiceImpl implements BookingService {
                                                        final Integer from,
                                                        final Integer size) {
 
-        Pageable paging = PageRequest.of(from, size);
+        return findBookings(BookingRoleEnum.OWNER, userId, state, null, null, OffsetPageRequest.of(from, size))
+                .map(bookingMapper::toBookingOutDtoFromBookingRow)
+                .getContent();
+    }
+
+    @Override
+    public CursorPage<BookingOutDto> getAllBookingsItemsUserByCursor(final Long userId,
+                                                                     final String state,
+                                                                     final Cursor cursor,
+                                                                     final Integer size) {
+
+        return CursorPage.of(findBookings(BookingRoleEnum.OWNER, userId, state, cursor.getTime(), cursor.getId(), OffsetPageRequest.of(0, size)),
+                        booking -> Cursor.encode(booking.getStart(), booking.getId()))
+                .map(bookingMapper::toBookingOutDtoFromBookingRow);
+    }
+
+    private boolean isExclusionViolation(final Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause())
+            if (cause instanceof SQLException sqlException && EXCLUSION_VIOLATION.equals(sqlException.getSQLState()))
+                return true;
+
+        return false;
+    }
+
+    private Slice<BookingRow> findBookings(final BookingRoleEnum role,
+                                           final Long userId,
+                                           final String state,
+                                           final LocalDateTime afterStart,
+                                           final Long afterId,
+                                           final Pageable paging) {
 
         BookingStateEnum stateEnum = BookingStateEnum.from(state);
-        userRepository.findById(userId)
-                .orElseThrow(() -> new IncorrectUserIdException("Пользователь с id " + userId + " не найден"));
-
-        Stream<Booking> stream = switch (stateEnum) {
-            case CURRENT -> bookingRepository
-                    .findAllBookingsItemsUserForStatusCurrent(userId, LocalDateTime.now(), paging).stream();
-            case PAST -> bookingRepository
-                    .findAllBookingsItemsUserForStatusPast(userId, LocalDateTime.now(), paging).stream();
-            case FUTURE -> bookingRepository
-                    .findAllBookingsItemsUserForStatusFuture(userId, LocalDateTime.now(), paging).stream();
-            case WAITING -> bookingRepository
-                    .findAllBookingsItemsUserForStatusWaitingOrRejected(userId, BookingStatusEnum.WAITING, paging).stream();
-            case REJECTED -> bookingRepository
-                    .findAllBookingsItemsUserForStatusWaitingOrRejected(userId, BookingStatusEnum.REJECTED, paging).stream();
-            default -> bookingRepository
-                    .findAllBookingsItemsUser(userId, paging).stream();
-        };
-        return stream
-                .map(bookingMapper::toBookingOutDtoFromBooking)
-                .toList();
+        userValidationService.checkUserExists(userId);
+
+        return bookingRepository.findBookingRows(BookingFilter.builder()
+                .role(role)
+                .userId(userId)
+                .state(stateEnum)
+                .now(LocalDateTime.now())
+                .afterStart(afterStart)
+                .afterId(afterId)
+                .direction(role == BookingRoleEnum.BOOKER && stateEnum == BookingStateEnum.CURRENT
+                        ? Sort.Direction.ASC : Sort.Direction.DESC)
+                .build(), paging);
     }
-}
\ No newline at end of file
+}
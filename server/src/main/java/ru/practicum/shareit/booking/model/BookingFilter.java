@@ -0,0 +1,29 @@
+package ru.practicum.shareit.booking.model;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+import org.springframework.data.domain.Sort;
+import ru.practicum.shareit.booking.enums.BookingRoleEnum;
+import ru.practicum.shareit.booking.enums.BookingStateEnum;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class BookingFilter {
+    BookingRoleEnum role;
+    Long userId;
+    @Builder.Default
+    BookingStateEnum state = BookingStateEnum.ALL;
+    LocalDateTime now;
+    Long itemId;
+    LocalDateTime rangeStart;
+    LocalDateTime rangeEnd;
+    LocalDateTime afterStart;
+    Long afterId;
+    @Builder.Default
+    Sort.Direction direction = Sort.Direction.DESC;
+}
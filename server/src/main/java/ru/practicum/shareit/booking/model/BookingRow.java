@@ -0,0 +1,33 @@
+package ru.practicum.shareit.booking.model;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+import ru.practicum.shareit.booking.enums.BookingStatusEnum;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class BookingRow {
+    Long id;
+    LocalDateTime start;
+    LocalDateTime end;
+    BookingStatusEnum status;
+    Long itemId;
+    String itemName;
+    String itemDescription;
+    Integer itemNumberOfRentals;
+    Boolean itemAvailable;
+    Long ownerId;
+    String ownerName;
+    String ownerEmail;
+    Long requestId;
+    String requestDescription;
+    LocalDateTime requestCreated;
+    Long bookerId;
+    String bookerName;
+    String bookerEmail;
+}
@@ -0,0 +1,42 @@
+package ru.practicum.shareit.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.transaction.TransactionCallbacks;
+
+import java.util.Collection;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class CacheEvictor {
+    private final CacheManager cacheManager;
+
+    public void evictUser(final Long userId) {
+        evict("users", List.of(userId));
+    }
+
+    public void evictItems(final Collection<Long> itemIds) {
+        evict("items", itemIds);
+    }
+
+    public void evictRequests(final Collection<Long> requestIds) {
+        evict("requests", requestIds);
+    }
+
+    private void evict(final String cacheName,
+                       final Collection<Long> ids) {
+        if (ids.isEmpty())
+            return;
+
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null)
+            return;
+
+        List<Long> keys = List.copyOf(ids);
+        keys.forEach(cache::evict);
+        TransactionCallbacks.afterCompletion(() -> keys.forEach(cache::evict));
+    }
+}
@@ -0,0 +1,7 @@
+package ru.practicum.shareit.exception;
+
+public class IncorrectBulkSizeException extends RuntimeException {
+    public IncorrectBulkSizeException(String message) {
+        super(message);
+    }
+}
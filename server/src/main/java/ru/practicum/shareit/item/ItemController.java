@@ -1,11 +1,21 @@
 package ru.practicum.shareit.item;
 
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.exception.IncorrectBulkSizeException;
 import ru.practicum.shareit.item.annotations.ItemControllerExceptionHandler;
 import ru.practicum.shareit.item.dto.model.*;
+import ru.practicum.shareit.pagination.Cursor;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 @RestController
@@ -14,7 +24,10 @@ import java.util.List;
 @ItemControllerExceptionHandler
 @RequiredArgsConstructor
 public class ItemController {
+    private static final int BULK_MAX_SIZE = 5000;
+
     private final ItemService itemService;
+    private final ObjectMapper objectMapper;
     private final String userIdHead = "X-Sharer-User-Id";
 
     @PostMapping
@@ -25,6 +38,22 @@ public class ItemController {
         return itemService.createItem(itemDto, userId);
     }
 
+    @PostMapping("/bulk")
+    public List<Long> createItems(@RequestHeader(userIdHead) final Long userId,
+                                  final InputStream body) throws IOException {
+
+        log.info("Create Items bulk; userId={} ", userId);
+        List<ItemIncDto> itemDtos = new ArrayList<>();
+        try (MappingIterator<ItemIncDto> values = objectMapper.readerFor(ItemIncDto.class).readValues(body)) {
+            while (values.hasNext()) {
+                if (itemDtos.size() == BULK_MAX_SIZE)
+                    throw new IncorrectBulkSizeException("За один запрос можно добавить не более " + BULK_MAX_SIZE + " вещей");
+                itemDtos.add(values.next());
+            }
+        }
+        return itemService.createItems(itemDtos, userId);
+    }
+
     @PatchMapping("/{item-id}")
     public ItemOutDto updateItem(@PathVariable("item-id") final Long itemId,
                                  @RequestBody final ItemIncDto itemDto,
@@ -43,19 +72,34 @@ public class ItemController {
     }
 
     @GetMapping
-    public List<ItemWidthBookingsTimeDto> getItemsUser(@RequestHeader(userIdHead) final Long userId,
-                                                       @RequestParam final Integer from,
-                                                       @RequestParam final Integer size) {
+    public ResponseEntity<List<ItemWidthBookingsTimeDto>> getItemsUser(@RequestHeader(userIdHead) final Long userId,
+                                                                       @RequestParam(defaultValue = "0") final Integer from,
+                                                                       @RequestParam final Integer size,
+                                                                       @RequestParam(required = false) final String cursor) {
+
+        log.info("Get Items user; userId={}, from={}, size={}, cursor={}", userId, from, size, cursor);
+        if (cursor != null)
+            return itemService.getItemsUserByCursor(userId, Cursor.decode(cursor), size).toResponseEntity();
+
+        return ResponseEntity.ok(itemService.getItemsUser(userId, from, size));
+    }
+
+    @GetMapping("/{item-id}/availability")
+    public List<AvailabilitySlotDto> getAvailability(@PathVariable("item-id") final Long itemId,
+                                                     @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime from,
+                                                     @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime to) {
 
-        log.info("Get Items user; userId={}, from={}, size={}", userId, from, size);
-        return itemService.getItemsUser(userId, from, size);
+        log.info("Get Item availability; itemId={}, from={}, to={}", itemId, from, to);
+        return itemService.getAvailability(itemId, from, to);
     }
 
     @GetMapping("/search")
-    public List<ItemOutDto> searchItems(@RequestParam final String text) {
+    public List<ItemOutDto> searchItems(@RequestParam final String text,
+                                        @RequestParam final Integer from,
+                                        @RequestParam final Integer size) {
 
-        log.info("Search Items; text={}", text);
-        return itemService.searchItems(text);
+        log.info("Search Items; text={}, from={}, size={}", text, from, size);
+        return itemService.searchItems(text, from, size);
     }
 
     @PostMapping("/{item-id}/comment")
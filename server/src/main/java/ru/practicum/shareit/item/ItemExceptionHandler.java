@@ -1,11 +1,17 @@
 package ru.practicum.shareit.item;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import ru.practicum.shareit.exception.IncorrectBookingTimeException;
+import ru.practicum.shareit.exception.IncorrectBulkSizeException;
 import ru.practicum.shareit.exception.IncorrectCommentatorException;
+import ru.practicum.shareit.exception.IncorrectCursorException;
 import ru.practicum.shareit.exception.IncorrectItemIdException;
 import ru.practicum.shareit.exception.IncorrectRequestIdException;
 import ru.practicum.shareit.exception.IncorrectUserIdException;
@@ -33,6 +39,16 @@ public class ItemExceptionHandler {
                 + e.getFieldError().getField(), path);
     }
 
+    @ExceptionHandler({JsonProcessingException.class, RuntimeJsonMappingException.class})
+    public ResponseEntity<ErrorResponse> handleJsonProcessingException(Exception e) {
+        return DefaultExceptionHandler.response(HttpStatus.BAD_REQUEST, "Передан некорректный список вещей", path);
+    }
+
+    @ExceptionHandler(IncorrectBulkSizeException.class)
+    public ResponseEntity<ErrorResponse> handleIncorrectBulkSizeException(IncorrectBulkSizeException e) {
+        return DefaultExceptionHandler.response(HttpStatus.BAD_REQUEST, e.getMessage(), path);
+    }
+
     @ExceptionHandler(IncorrectCommentatorException.class)
     public ResponseEntity<ErrorResponse> handleIncorrectCommentatorException(IncorrectCommentatorException e) {
         return DefaultExceptionHandler.response(HttpStatus.BAD_REQUEST, e.getMessage(), path);
@@ -42,4 +58,20 @@ public class ItemExceptionHandler {
     public ResponseEntity<ErrorResponse> handleIncorrectRequestIdException(IncorrectRequestIdException e) {
         return DefaultExceptionHandler.response(HttpStatus.NOT_FOUND, e.getMessage(), path);
     }
+
+    @ExceptionHandler(IncorrectBookingTimeException.class)
+    public ResponseEntity<ErrorResponse> handleIncorrectBookingTimeException(IncorrectBookingTimeException e) {
+        return DefaultExceptionHandler.response(HttpStatus.BAD_REQUEST, e.getMessage(), path);
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(OptimisticLockingFailureException e) {
+        return DefaultExceptionHandler.response(HttpStatus.CONFLICT,
+                "Данные были изменены другим запросом, повторите попытку", path);
+    }
+
+    @ExceptionHandler(IncorrectCursorException.class)
+    public ResponseEntity<ErrorResponse> handleIncorrectCursorException(IncorrectCursorException e) {
+        return DefaultExceptionHandler.response(HttpStatus.BAD_REQUEST, e.getMessage(), path);
+    }
 }
@@ -1,23 +1,92 @@
 package ru.practicum.shareit.item;
 
-import org.springframework.data.domain.Page;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemRow;
+import ru.practicum.shareit.item.model.ItemSearchDocument;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface ItemRepository extends JpaRepository<Item, Long> {
 
-    Page<Item> findAllByOwnerId(Long ownerId, Pageable paging);
+    @Cacheable(cacheNames = "items", key = "#p0", unless = "#result == null")
+    @Query("select new ru.practicum.shareit.item.model.ItemRow(it.id, it.name, it.description, " +
+            "it.numberOfRentals, it.available, it.version, " +
+            "o.id, o.name, o.email, " +
+            "r.id, r.description, r.created) " +
+            "from Item as it " +
+            "join it.owner as o " +
+            "left join it.request as r " +
+            "where it.id = :id")
+    Optional<ItemRow> findCachedById(Long id);
+
+    @Override
+    @EntityGraph("Item.detail")
+    Optional<Item> findById(Long id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Item as it " +
+            "set it.numberOfRentals = coalesce(it.numberOfRentals, 0) + 1, it.version = it.version + 1 " +
+            "where it.id = :itemId")
+    int incrementNumberOfRentals(Long itemId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select it " +
+            "from Item as it " +
+            "where it.id in :itemIds " +
+            "order by it.id")
+    List<Item> lockAllByIdIn(Collection<Long> itemIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Item as it " +
+            "set it.numberOfRentals = coalesce(it.numberOfRentals, 0) + " +
+            "(select count(b) from Booking as b where b.item.id = it.id and b.id in :bookingIds), " +
+            "it.version = it.version + 1 " +
+            "where it.id in :itemIds")
+    int addNumberOfRentals(Collection<Long> itemIds, Collection<Long> bookingIds);
+
+    @Query("select it.id " +
+            "from Item as it " +
+            "where it.id in :itemIds " +
+            "and it.owner.id = :ownerId")
+    List<Long> findIdsByIdInAndOwnerId(Collection<Long> itemIds, Long ownerId);
+
+    @Query("select it.id " +
+            "from Item as it " +
+            "where it.owner.id = :ownerId")
+    List<Long> findIdsByOwnerId(Long ownerId);
+
+    @EntityGraph("Item.detail")
+    List<Item> findAllByIdIn(Collection<Long> ids);
 
+    @EntityGraph("Item.detail")
+    Slice<Item> findAllByOwnerIdAndIdGreaterThanOrderById(Long ownerId, Long afterId, Pageable paging);
+
+    @EntityGraph("Item.detail")
     @Query("select it " +
             "from Item as it " +
             "where it.available = true " +
             "and (lower(it.name) like :text " +
-            "or lower(it.description) like :text)")
-    List<Item> searchByNameOrDescription(String text);
+            "or lower(it.description) like :text) " +
+            "order by case when lower(it.name) like :text then 0 else 1 end, it.id")
+    List<Item> searchByNameOrDescription(String text, Pageable paging);
 
     List<Item> findAllByRequestId(Long requestId);
+
+    @Query("select it.id as id, it.name as name, it.description as description " +
+            "from Item as it " +
+            "where it.available = true " +
+            "and it.id > :afterId " +
+            "order by it.id")
+    List<ItemSearchDocument> findSearchDocuments(Long afterId, Pageable paging);
 }
\ No newline at end of file
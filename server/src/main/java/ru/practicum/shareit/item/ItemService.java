@@ -1,13 +1,18 @@
 package ru.practicum.shareit.item;
 
 import ru.practicum.shareit.item.dto.model.*;
+import ru.practicum.shareit.pagination.Cursor;
+import ru.practicum.shareit.pagination.CursorPage;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ItemService {
 
     ItemOutDto createItem(ItemIncDto itemDto, Long userId);
 
+    List<Long> createItems(List<ItemIncDto> itemDtos, Long userId);
+
     ItemOutDto updateItem(Long itemId, ItemIncDto itemDto, Long userId);
 
     ItemWidthBookingsTimeDto getItem(Long itemId, Long userId);
@@ -16,7 +21,15 @@ public interface ItemService {
                                                 Integer from,
                                                 Integer size);
 
-    List<ItemOutDto> searchItems(String text);
+    CursorPage<ItemWidthBookingsTimeDto> getItemsUserByCursor(Long userId,
+                                                              Cursor cursor,
+                                                              Integer size);
+
+    List<ItemOutDto> searchItems(String text,
+                                 Integer from,
+                                 Integer size);
 
     CommentOutDto addComment(CommentIncDto comment, Long itemId, Long userId);
+
+    List<AvailabilitySlotDto> getAvailability(Long itemId, LocalDateTime from, LocalDateTime to);
 }
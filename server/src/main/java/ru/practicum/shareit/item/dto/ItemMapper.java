@@ -6,8 +6,11 @@ import ru.practicum.shareit.item.dto.model.ItemOutDto;
 import ru.practicum.shareit.item.dto.model.ItemToRequestDto;
 import ru.practicum.shareit.item.dto.model.ItemWidthBookingsTimeDto;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemRow;
 import ru.practicum.shareit.request.dto.RequestMapper;
+import ru.practicum.shareit.request.model.Request;
 import ru.practicum.shareit.user.dto.UserMapper;
+import ru.practicum.shareit.user.model.User;
 
 @Component
 public class ItemMapper {
@@ -57,6 +60,19 @@ public class ItemMapper {
                 null,
                 null,
                 item.getAvailable(),
+                null,
                 null);
     }
+
+    public Item toItemFromItemRow(ItemRow item) {
+        return new Item(item.getId(),
+                item.getName(),
+                item.getDescription(),
+                new User(item.getOwnerId(), item.getOwnerName(), item.getOwnerEmail()),
+                item.getNumberOfRentals(),
+                item.getAvailable(),
+                item.getRequestId() == null ? null
+                        : new Request(item.getRequestId(), item.getRequestDescription(), null, item.getRequestCreated()),
+                item.getVersion());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package ru.practicum.shareit.item.dto.model;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode
+@ToString
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class AvailabilitySlotDto {
+    LocalDateTime start;
+    LocalDateTime end;
+}
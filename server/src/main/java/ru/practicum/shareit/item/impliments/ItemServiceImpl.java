@@ -1,13 +1,18 @@
 package ru.practicum.shareit.item.impliments;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.calendar.BookingCalendar;
 import ru.practicum.shareit.booking.dto.BookingMapper;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingShort;
+import ru.practicum.shareit.cache.CacheEvictor;
+import ru.practicum.shareit.exception.IncorrectBookingTimeException;
 import ru.practicum.shareit.exception.IncorrectCommentatorException;
 import ru.practicum.shareit.exception.IncorrectItemIdException;
 import ru.practicum.shareit.exception.IncorrectRequestIdException;
@@ -20,17 +25,35 @@ import ru.practicum.shareit.item.dto.ItemMapper;
 import ru.practicum.shareit.item.dto.model.*;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
+import ru.practicum.shareit.pagination.Cursor;
+import ru.practicum.shareit.pagination.CursorPage;
+import ru.practicum.shareit.pagination.OffsetPageRequest;
 import ru.practicum.shareit.request.RequestRepository;
+import ru.practicum.shareit.request.dto.RequestMapper;
+import ru.practicum.shareit.request.model.Request;
 import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.user.dto.UserMapper;
+import ru.practicum.shareit.user.model.User;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 class ItemServiceImpl implements ItemService {
+    private static final int BULK_CHUNK_SIZE = 500;
+
     private final RequestRepository requestRepository;
     private final ItemRepository itemRepository;
     private final UserRepository userRepository;
@@ -39,24 +62,51 @@ class ItemServiceImpl implements ItemService {
     private final ItemMapper itemMapper;
     private final CommentMapper commentMapper;
     private final BookingMapper bookingMapper;
+    private final UserMapper userMapper;
+    private final RequestMapper requestMapper;
+    private final CacheEvictor cacheEvictor;
+    private final Optional<ItemSearchIndex> searchIndex;
+    private final BookingCalendar bookingCalendar;
+    private final EntityManager entityManager;
 
     @Override
+    @Transactional
     public ItemOutDto createItem(final ItemIncDto itemDto,
                                  final Long userId) {
 
         Item item = itemMapper.toItemFromItemIncDto(itemDto);
 
-        item.setOwner(userRepository.findById(userId)
+        item.setOwner(userRepository.findCachedById(userId)
+                .map(userMapper::toUserFromUserRow)
                 .orElseThrow(() -> new IncorrectUserIdException("Пользователь с id " + userId + " не найден.")));
 
         if (itemDto.getRequestId() != null)
-            item.setRequest(requestRepository.findById(itemDto.getRequestId())
+            item.setRequest(requestRepository.findCachedById(itemDto.getRequestId())
+                    .map(requestMapper::toRequestFromRequestRow)
                     .orElseThrow(() -> new IncorrectRequestIdException("Запрос с id " + itemDto.getRequestId() + " не найден")));
 
-        return itemMapper.toItemDtoFromItem(itemRepository.save(item));
+        Item savedItem = itemRepository.save(item);
+        searchIndex.ifPresent(index -> index.index(savedItem));
+        return itemMapper.toItemDtoFromItem(savedItem);
+    }
+
+    @Override
+    @Transactional
+    public List<Long> createItems(final List<ItemIncDto> itemDtos,
+                                  final Long userId) {
+
+        User owner = userRepository.findCachedById(userId)
+                .map(userMapper::toUserFromUserRow)
+                .orElseThrow(() -> new IncorrectUserIdException("Пользователь с id " + userId + " не найден."));
+
+        List<Long> ids = new ArrayList<>(itemDtos.size());
+        for (int from = 0; from < itemDtos.size(); from += BULK_CHUNK_SIZE)
+            ids.addAll(saveItems(itemDtos.subList(from, Math.min(from + BULK_CHUNK_SIZE, itemDtos.size())), owner));
+        return ids;
     }
 
     @Override
+    @Transactional
     public ItemOutDto updateItem(final Long itemId,
                                  final ItemIncDto itemDto,
                                  final Long userId) {
@@ -73,7 +123,11 @@ class ItemServiceImpl implements ItemService {
 
         if (itemDto.getAvailable() != null) item.setAvailable(itemDto.getAvailable());
 
-        ItemOutDto itemOutDto = itemMapper.toItemDtoFromItem(itemRepository.save(item));
+        Item savedItem = itemRepository.save(item);
+        searchIndex.ifPresent(index -> index.index(savedItem));
+        cacheEvictor.evictItems(List.of(itemId));
+
+        ItemOutDto itemOutDto = itemMapper.toItemDtoFromItem(savedItem);
         itemOutDto.setComments(
                 commentRepository.findAllByItem(itemId)
                         .stream()
@@ -87,7 +141,8 @@ class ItemServiceImpl implements ItemService {
     public ItemWidthBookingsTimeDto getItem(final Long itemId,
                                             final Long userId) {
 
-        Item item = itemRepository.findById(itemId)
+        Item item = itemRepository.findCachedById(itemId)
+                .map(itemMapper::toItemFromItemRow)
                 .orElseThrow(() -> new IncorrectItemIdException("Вещь с id " + itemId + " не найдена"));
 
         ItemWidthBookingsTimeDto itemWidthBookingsTimeDto = itemMapper.toItemWidthBookingsTimeDtoFromItem(item);
@@ -102,17 +157,7 @@ class ItemServiceImpl implements ItemService {
         if (!item.getOwner().getId().equals(userId))
             return itemWidthBookingsTimeDto;
 
-        Pageable paging = PageRequest.of(0, 1);
-
-        List<Booking> lastBookings = bookingRepository.findLastBooking(item.getId(), LocalDateTime.now(), paging).toList();
-        if (!lastBookings.isEmpty())
-            itemWidthBookingsTimeDto.setLastBooking(bookingMapper
-                    .toBookingWithItemsDtoFromBooking(lastBookings.get(0)));
-
-        List<Booking> nextBookings = bookingRepository.findNextBooking(item.getId(), LocalDateTime.now(), paging).toList();
-        if (!nextBookings.isEmpty())
-            itemWidthBookingsTimeDto.setNextBooking(bookingMapper
-                    .toBookingWithItemsDtoFromBooking(nextBookings.get(0)));
+        setLastAndNextBookings(List.of(itemWidthBookingsTimeDto));
 
         return itemWidthBookingsTimeDto;
     }
@@ -121,60 +166,175 @@ class ItemServiceImpl implements ItemService {
     public List<ItemWidthBookingsTimeDto> getItemsUser(final Long userId,
                                                        final Integer from,
                                                        final Integer size) {
-        Pageable paging = PageRequest.of(from, size);
-        return itemRepository.findAllByOwnerId(userId, paging)
-                .stream()
+        Pageable paging = OffsetPageRequest.of(from, size);
+        return setCommentsAndBookings(itemRepository.findAllByOwnerIdAndIdGreaterThanOrderById(userId, 0L, paging)
                 .map(itemMapper::toItemWidthBookingsTimeDtoFromItem)
-                .peek(itemWidthBookingsTimeDto ->
-                        itemWidthBookingsTimeDto.setComments(
-                                commentRepository.findAllByItem(itemWidthBookingsTimeDto.getId())
-                                        .stream()
-                                        .map(commentMapper::toCommentOutDtoFromComment)
-                                        .toList()
-                        ))
-                .toList();
+                .getContent());
+    }
+
+    @Override
+    public CursorPage<ItemWidthBookingsTimeDto> getItemsUserByCursor(final Long userId,
+                                                                     final Cursor cursor,
+                                                                     final Integer size) {
+
+        CursorPage<ItemWidthBookingsTimeDto> page = CursorPage.of(itemRepository
+                        .findAllByOwnerIdAndIdGreaterThanOrderById(userId, cursor.getIdOrZero(), OffsetPageRequest.of(0, size))
+                        .map(itemMapper::toItemWidthBookingsTimeDtoFromItem),
+                item -> Cursor.encode(item.getId()));
+        setCommentsAndBookings(page.getContent());
+        return page;
     }
 
     @Override
-    public List<ItemOutDto> searchItems(final String text) {
+    public List<ItemOutDto> searchItems(final String text,
+                                        final Integer from,
+                                        final Integer size) {
 
         if (text == null || text.isBlank())
             return new ArrayList<>();
 
-        return itemRepository.searchByNameOrDescription("%" + text.toLowerCase() + "%")
+        List<ItemOutDto> items = searchIndex
+                .map(index -> findIndexedItems(index, text, from, size))
+                .orElseGet(() -> itemRepository.searchByNameOrDescription(
+                        "%" + text.toLowerCase(Locale.ROOT) + "%", OffsetPageRequest.of(from, size)))
                 .stream()
                 .map(itemMapper::toItemDtoFromItem)
-                .peek(itemDto ->
-                        itemDto.setComments(
-                                commentRepository.findAllByItem(itemDto.getId())
-                                        .stream()
-                                        .map(commentMapper::toCommentOutDtoFromComment)
-                                        .toList()
-                        ))
                 .toList();
+
+        Map<Long, List<CommentOutDto>> comments = getCommentsByItems(items.stream()
+                .map(ItemOutDto::getId)
+                .toList());
+        items.forEach(item -> item.setComments(comments.getOrDefault(item.getId(), List.of())));
+        return items;
     }
 
     @Override
+    @Transactional
     public CommentOutDto addComment(final CommentIncDto commentIncDto,
                                     final Long itemId,
                                     final Long userId) {
         List<Booking> bookings = bookingRepository
-                .searchForBookerIdAndItemId(userId, itemId, LocalDateTime.now(), PageRequest.of(0, 1))
-                .toList();
+                .searchForBookerIdAndItemId(userId, itemId, LocalDateTime.now(), OffsetPageRequest.of(0, 1));
         if (bookings.isEmpty()){
             throw new IncorrectCommentatorException(
                     "Комментарии могут оставлять только те пользователи, которые брали вещь в аренду");}
 
         Comment comment = commentMapper.toCommentFromCommentIncDto(commentIncDto);
 
-        comment.setAuthor(userRepository.findById(userId)
+        comment.setAuthor(userRepository.findCachedById(userId)
+                .map(userMapper::toUserFromUserRow)
                 .orElseThrow(() -> new IncorrectUserIdException("Пользователь с id " + userId + " не найден")));
 
-        comment.setItem(itemRepository.findById(itemId)
+        comment.setItem(itemRepository.findCachedById(itemId)
+                .map(itemMapper::toItemFromItemRow)
                 .orElseThrow(() -> new IncorrectItemIdException("Вещь с id " + itemId + " не найдена.")));
 
-        comment.setCreated(LocalDateTime.now());
+        comment.setCreated(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
         commentRepository.save(comment);
         return commentMapper.toCommentOutDtoFromComment(comment);
     }
+
+    @Override
+    public List<AvailabilitySlotDto> getAvailability(final Long itemId,
+                                                     final LocalDateTime from,
+                                                     final LocalDateTime to) {
+
+        if (!from.isBefore(to))
+            throw new IncorrectBookingTimeException("Начало периода должно быть раньше его окончания");
+
+        itemRepository.findCachedById(itemId)
+                .orElseThrow(() -> new IncorrectItemIdException("Вещь с id " + itemId + " не найдена."));
+
+        return bookingCalendar.findFree(itemId, from, to)
+                .stream()
+                .map(slot -> new AvailabilitySlotDto(slot.start(), slot.end()))
+                .toList();
+    }
+
+    private List<Long> saveItems(final List<ItemIncDto> itemDtos,
+                                 final User owner) {
+
+        Map<Long, Request> requests = requestRepository.findAllById(itemDtos.stream()
+                        .map(ItemIncDto::getRequestId)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Request::getId, Function.identity()));
+
+        List<Item> items = new ArrayList<>(itemDtos.size());
+        for (ItemIncDto itemDto : itemDtos) {
+            Item item = itemMapper.toItemFromItemIncDto(itemDto);
+            item.setOwner(owner);
+            if (itemDto.getRequestId() != null) {
+                Request request = requests.get(itemDto.getRequestId());
+                if (request == null)
+                    throw new IncorrectRequestIdException("Запрос с id " + itemDto.getRequestId() + " не найден");
+                item.setRequest(request);
+            }
+            items.add(item);
+        }
+
+        List<Item> savedItems = itemRepository.saveAll(items);
+        itemRepository.flush();
+        entityManager.clear();
+
+        searchIndex.ifPresent(index -> savedItems.forEach(index::index));
+        return savedItems.stream().map(Item::getId).toList();
+    }
+
+    private List<Item> findIndexedItems(final ItemSearchIndex index,
+                                        final String text,
+                                        final Integer from,
+                                        final Integer size) {
+
+        List<Long> ids = index.search(text, from, size);
+        Map<Long, Item> items = itemRepository.findAllByIdIn(ids)
+                .stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+
+        return ids.stream()
+                .map(items::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private List<ItemWidthBookingsTimeDto> setCommentsAndBookings(final List<ItemWidthBookingsTimeDto> items) {
+
+        Map<Long, List<CommentOutDto>> comments = getCommentsByItems(items.stream()
+                .map(ItemWidthBookingsTimeDto::getId)
+                .toList());
+        items.forEach(item -> item.setComments(comments.getOrDefault(item.getId(), List.of())));
+        setLastAndNextBookings(items);
+        return items;
+    }
+
+    private Map<Long, List<CommentOutDto>> getCommentsByItems(final List<Long> itemIds) {
+
+        if (itemIds.isEmpty())
+            return Map.of();
+
+        return commentRepository.findAllByItemIdIn(itemIds)
+                .stream()
+                .collect(Collectors.groupingBy(comment -> comment.getItem().getId(),
+                        Collectors.mapping(commentMapper::toCommentOutDtoFromComment, Collectors.toList())));
+    }
+
+    private void setLastAndNextBookings(final List<ItemWidthBookingsTimeDto> items) {
+
+        if (items.isEmpty())
+            return;
+
+        Map<Long, ItemWidthBookingsTimeDto> itemsById = items.stream()
+                .collect(Collectors.toMap(ItemWidthBookingsTimeDto::getId, Function.identity()));
+
+        LocalDateTime now = LocalDateTime.now();
+        for (BookingShort booking : bookingRepository.findLastAndNextBookings(itemsById.keySet(), now)) {
+            ItemWidthBookingsTimeDto item = itemsById.get(booking.getItemId());
+
+            if (booking.getStartTime().isBefore(now))
+                item.setLastBooking(bookingMapper.toBookingWithItemsDtoFromBookingShort(booking));
+            else
+                item.setNextBooking(bookingMapper.toBookingWithItemsDtoFromBookingShort(booking));
+        }
+    }
 }
\ No newline at end of file
@@ -13,10 +13,14 @@ import ru.practicum.shareit.user.model.User;
 @NoArgsConstructor
 @Entity
 @Table(name = "items")
+@NamedEntityGraph(name = "Item.detail", attributeNodes = {
+        @NamedAttributeNode("owner"),
+        @NamedAttributeNode("request")})
 @FieldDefaults(level = AccessLevel.PRIVATE)
 public class Item {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "items_seq")
+    @SequenceGenerator(name = "items_seq", sequenceName = "items_seq", allocationSize = 50)
     Long id;
 
     @Column(name = "name", nullable = false)
@@ -25,7 +29,7 @@ public class Item {
     @Column(name = "description")
     String description;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "owner", nullable = false)
     User owner;
 
@@ -38,4 +42,8 @@ public class Item {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "request")
     Request request;
+
+    @Version
+    @Column(name = "version")
+    Long version;
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package ru.practicum.shareit.item.model;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ItemRow {
+    Long id;
+    String name;
+    String description;
+    Integer numberOfRentals;
+    Boolean available;
+    Long version;
+    Long ownerId;
+    String ownerName;
+    String ownerEmail;
+    Long requestId;
+    String requestDescription;
+    LocalDateTime requestCreated;
+}
@@ -0,0 +1,9 @@
+package ru.practicum.shareit.item.model;
+
+public interface ItemSearchDocument {
+    Long getId();
+
+    String getName();
+
+    String getDescription();
+}
@@ -0,0 +1,168 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemSearchDocument;
+import ru.practicum.shareit.transaction.TransactionCallbacks;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shareit.search.index.enabled", havingValue = "true")
+public class ItemSearchIndex {
+    private static final int GRAM_LENGTH = 3;
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final ItemRepository itemRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, LongPostings> postings = new HashMap<>();
+    private final NavigableMap<Long, Document> documents = new TreeMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+
+            long lastId = 0;
+            List<ItemSearchDocument> batch;
+            do {
+                batch = itemRepository.findSearchDocuments(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+                for (ItemSearchDocument item : batch) {
+                    add(new Document(item.getId(), lower(item.getName()), lower(item.getDescription())));
+                    lastId = item.getId();
+                }
+            } while (batch.size() == REBUILD_BATCH_SIZE);
+
+            log.info("Item search index rebuilt; items={}, grams={}", documents.size(), postings.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void index(final Item item) {
+        Document document = Boolean.TRUE.equals(item.getAvailable())
+                ? new Document(item.getId(), lower(item.getName()), lower(item.getDescription()))
+                : null;
+        long itemId = item.getId();
+
+        TransactionCallbacks.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                remove(itemId);
+                if (document != null)
+                    add(document);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    public List<Long> search(final String text, final int offset, final int limit) {
+        String query = lower(text);
+        int wanted = offset + limit;
+
+        lock.readLock().lock();
+        try {
+            List<Long> nameMatches = new ArrayList<>();
+            List<Long> descriptionMatches = new ArrayList<>();
+
+            for (long id : candidates(query)) {
+                Document document = documents.get(id);
+                if (document.name().contains(query)) {
+                    nameMatches.add(id);
+                    if (nameMatches.size() == wanted)
+                        break;
+                } else if (document.description() != null && document.description().contains(query))
+                    descriptionMatches.add(id);
+            }
+
+            nameMatches.addAll(descriptionMatches);
+            if (offset >= nameMatches.size())
+                return List.of();
+
+            return List.copyOf(nameMatches.subList(offset, Math.min(wanted, nameMatches.size())));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private long[] candidates(final String query) {
+        if (query.length() < GRAM_LENGTH)
+            return documents.keySet().stream().mapToLong(Long::longValue).toArray();
+
+        List<LongPostings> lists = new ArrayList<>();
+        for (String gram : toGrams(query)) {
+            LongPostings list = postings.get(gram);
+            if (list == null)
+                return new long[0];
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(LongPostings::size));
+
+        LongPostings smallest = lists.get(0);
+        long[] result = new long[smallest.size()];
+        int count = 0;
+        for (int i = 0; i < smallest.size(); i++) {
+            long id = smallest.get(i);
+            boolean inAll = true;
+            for (int j = 1; j < lists.size() && inAll; j++)
+                inAll = lists.get(j).contains(id);
+
+            if (inAll)
+                result[count++] = id;
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private void add(final Document document) {
+        documents.put(document.id(), document);
+        for (String gram : document.grams())
+            postings.computeIfAbsent(gram, key -> new LongPostings()).add(document.id());
+    }
+
+    private void remove(final long id) {
+        Document document = documents.remove(id);
+        if (document == null)
+            return;
+
+        for (String gram : document.grams()) {
+            LongPostings list = postings.get(gram);
+            list.remove(id);
+            if (list.isEmpty())
+                postings.remove(gram);
+        }
+    }
+
+    private static Set<String> toGrams(final String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++)
+            grams.add(text.substring(i, i + GRAM_LENGTH));
+        return grams;
+    }
+
+    private static String lower(final String text) {
+        return text == null ? null : text.toLowerCase(Locale.ROOT);
+    }
+
+    private record Document(long id, String name, String description) {
+        Set<String> grams() {
+            Set<String> grams = toGrams(name);
+            if (description != null)
+                grams.addAll(toGrams(description));
+            return grams;
+        }
+    }
+}
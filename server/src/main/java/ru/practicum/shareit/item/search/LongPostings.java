@@ -0,0 +1,47 @@
+package ru.practicum.shareit.item.search;
+
+import java.util.Arrays;
+
+class LongPostings {
+    private long[] ids = new long[4];
+    private int size;
+
+    void add(final long id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index >= 0)
+            return;
+
+        index = -index - 1;
+        if (size == ids.length)
+            ids = Arrays.copyOf(ids, size * 2);
+
+        System.arraycopy(ids, index, ids, index + 1, size - index);
+        ids[index] = id;
+        size++;
+    }
+
+    void remove(final long id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index < 0)
+            return;
+
+        System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+        size--;
+    }
+
+    boolean contains(final long id) {
+        return Arrays.binarySearch(ids, 0, size, id) >= 0;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long get(final int index) {
+        return ids[index];
+    }
+}
@@ -0,0 +1,58 @@
+package ru.practicum.shareit.pagination;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+import ru.practicum.shareit.exception.IncorrectCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class Cursor {
+    private static final String SEPARATOR = "|";
+
+    LocalDateTime time;
+    Long id;
+
+    public static Cursor decode(final String token) {
+        if (token == null || token.isBlank())
+            return new Cursor(null, null);
+
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = value.indexOf(SEPARATOR);
+            if (separator < 0)
+                return new Cursor(null, Long.valueOf(value));
+
+            return new Cursor(LocalDateTime.parse(value.substring(0, separator)),
+                    Long.valueOf(value.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IncorrectCursorException("Некорректный курсор " + token);
+        }
+    }
+
+    public static String encode(final Long id) {
+        return encode(id.toString());
+    }
+
+    public static String encode(final LocalDateTime time,
+                                final Long id) {
+        return encode(time + SEPARATOR + id);
+    }
+
+    public Long getIdOrZero() {
+        return id == null ? 0L : id;
+    }
+
+    private static String encode(final String value) {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
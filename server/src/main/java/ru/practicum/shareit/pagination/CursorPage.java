@@ -0,0 +1,42 @@
+package ru.practicum.shareit.pagination;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class CursorPage<T> {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    List<T> content;
+    String nextCursor;
+
+    public static <T> CursorPage<T> of(final Slice<T> slice,
+                                       final Function<T, String> cursor) {
+
+        String nextCursor = slice.hasNext() && slice.hasContent()
+                ? cursor.apply(slice.getContent().get(slice.getNumberOfElements() - 1))
+                : null;
+        return new CursorPage<>(slice.getContent(), nextCursor);
+    }
+
+    public <R> CursorPage<R> map(final Function<T, R> mapper) {
+        return new CursorPage<>(content.stream().map(mapper).toList(), nextCursor);
+    }
+
+    public ResponseEntity<List<T>> toResponseEntity() {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (nextCursor != null)
+            response.header(NEXT_CURSOR_HEADER, nextCursor);
+
+        return response.body(content);
+    }
+}
@@ -2,7 +2,9 @@ package ru.practicum.shareit.request;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.pagination.Cursor;
 import ru.practicum.shareit.request.annotations.RequestControllerExceptionHandler;
 import ru.practicum.shareit.request.dto.model.RequestIncDto;
 import ru.practicum.shareit.request.dto.model.RequestOutDto;
@@ -35,12 +37,16 @@ public class RequestController {
     }
 
     @GetMapping("/all")
-    public List<RequestOutDto> getAllRequests(@RequestHeader(userIdHead) final Long userId,
-                                              @RequestParam final Integer from,
-                                              @RequestParam final Integer size) {
+    public ResponseEntity<List<RequestOutDto>> getAllRequests(@RequestHeader(userIdHead) final Long userId,
+                                                              @RequestParam(defaultValue = "0") final Integer from,
+                                                              @RequestParam final Integer size,
+                                                              @RequestParam(required = false) final String cursor) {
 
-        log.info("GET all requests; userId={}, from={}, size={}", userId, from, size);
-        return requestService.getAllRequests(userId, from, size);
+        log.info("GET all requests; userId={}, from={}, size={}, cursor={}", userId, from, size, cursor);
+        if (cursor != null)
+            return requestService.getAllRequestsByCursor(userId, Cursor.decode(cursor), size).toResponseEntity();
+
+        return ResponseEntity.ok(requestService.getAllRequests(userId, from, size));
     }
 
     @GetMapping("/{request-id}")
@@ -4,6 +4,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import ru.practicum.shareit.exception.IncorrectCursorException;
 import ru.practicum.shareit.exception.IncorrectRequestIdException;
 import ru.practicum.shareit.exception.IncorrectUserIdException;
 import ru.practicum.shareit.exception.handler.DefaultExceptionHandler;
@@ -23,4 +24,9 @@ public class RequestExceptionHandler {
     public ResponseEntity<ErrorResponse> handleIncorrectUserIdException(IncorrectRequestIdException e) {
         return DefaultExceptionHandler.response(HttpStatus.NOT_FOUND, e.getMessage(), path);
     }
-}
\ No newline at end of file
+
+    @ExceptionHandler(IncorrectCursorException.class)
+    public ResponseEntity<ErrorResponse> handleIncorrectCursorException(IncorrectCursorException e) {
+        return DefaultExceptionHandler.response(HttpStatus.BAD_REQUEST, e.getMessage(), path);
+    }
+}
@@ -1,20 +1,43 @@
 package ru.practicum.shareit.request;
 
-import org.springframework.data.domain.Page;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import ru.practicum.shareit.request.model.Request;
+import ru.practicum.shareit.request.model.RequestRow;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface RequestRepository extends JpaRepository<Request, Long> {
 
+    @Cacheable(cacheNames = "requests", key = "#p0", unless = "#result == null")
+    @Query("select new ru.practicum.shareit.request.model.RequestRow(r.id, r.description, r.created) " +
+            "from Request as r " +
+            "where r.id = :id")
+    Optional<RequestRow> findCachedById(Long id);
+
+    @Query("select r.id " +
+            "from Request as r " +
+            "where r.requestor.id = :requestorId")
+    List<Long> findIdsByRequestorId(Long requestorId);
+
     List<Request> findAllByRequestorIdOrderByCreatedDesc(Long requestorId);
 
     @Query("select r " +
             "from Request as r " +
             "where r.requestor.id <> :userId " +
-            "order by r.created")
-    Page<Request> getAllRequests(Long userId, Pageable paging);
+            "order by r.created, r.id")
+    Slice<Request> getAllRequests(Long userId, Pageable paging);
+
+    @Query("select r " +
+            "from Request as r " +
+            "where r.requestor.id <> :userId " +
+            "and (r.created > :afterCreated " +
+            "or (r.created = :afterCreated and r.id > :afterId)) " +
+            "order by r.created, r.id")
+    Slice<Request> getAllRequestsAfter(Long userId, LocalDateTime afterCreated, Long afterId, Pageable paging);
 }
@@ -1,5 +1,7 @@
 package ru.practicum.shareit.request;
 
+import ru.practicum.shareit.pagination.Cursor;
+import ru.practicum.shareit.pagination.CursorPage;
 import ru.practicum.shareit.request.dto.model.RequestIncDto;
 import ru.practicum.shareit.request.dto.model.RequestOutDto;
 import ru.practicum.shareit.request.dto.model.RequestWithItemDto;
@@ -16,5 +18,9 @@ public interface RequestService {
                                        final Integer from,
                                        final Integer size);
 
+    CursorPage<RequestOutDto> getAllRequestsByCursor(final Long userId,
+                                                     final Cursor cursor,
+                                                     final Integer size);
+
     RequestWithItemDto getRequest(final Long requestId);
 }
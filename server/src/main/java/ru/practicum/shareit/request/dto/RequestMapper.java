@@ -5,6 +5,7 @@ import ru.practicum.shareit.request.dto.model.RequestIncDto;
 import ru.practicum.shareit.request.dto.model.RequestOutDto;
 import ru.practicum.shareit.request.dto.model.RequestWithItemDto;
 import ru.practicum.shareit.request.model.Request;
+import ru.practicum.shareit.request.model.RequestRow;
 
 @Component
 public class RequestMapper {
@@ -22,6 +23,20 @@ public class RequestMapper {
                 request.getCreated());
     }
 
+    public Request toRequestFromRequestRow(RequestRow request) {
+        return new Request(request.getId(),
+                request.getDescription(),
+                null,
+                request.getCreated());
+    }
+
+    public RequestWithItemDto toRequestWithItemDtoFromRequestRow(RequestRow request) {
+        return new RequestWithItemDto(request.getId(),
+                request.getDescription(),
+                request.getCreated(),
+                null);
+    }
+
     public RequestWithItemDto toRequestWithItemDtoFromRequest(Request request) {
         if (request == null) return null;
         return new RequestWithItemDto(request.getId(),
@@ -1,13 +1,17 @@
 package ru.practicum.shareit.request.impliments;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.exception.IncorrectRequestIdException;
 import ru.practicum.shareit.exception.IncorrectUserIdException;
 import ru.practicum.shareit.item.ItemRepository;
 import ru.practicum.shareit.item.dto.ItemMapper;
+import ru.practicum.shareit.pagination.Cursor;
+import ru.practicum.shareit.pagination.CursorPage;
+import ru.practicum.shareit.pagination.OffsetPageRequest;
 import ru.practicum.shareit.request.RequestRepository;
 import ru.practicum.shareit.request.RequestService;
 import ru.practicum.shareit.request.dto.RequestMapper;
@@ -16,36 +20,43 @@ import ru.practicum.shareit.request.dto.model.RequestOutDto;
 import ru.practicum.shareit.request.dto.model.RequestWithItemDto;
 import ru.practicum.shareit.request.model.Request;
 import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.user.UserValidationService;
+import ru.practicum.shareit.user.dto.UserMapper;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class RequestServiceImpl implements RequestService {
     private final RequestRepository requestRepository;
     private final ItemRepository itemRepository;
     private final UserRepository userRepository;
+    private final UserValidationService userValidationService;
     private final RequestMapper requestMapper;
     private final ItemMapper itemMapper;
+    private final UserMapper userMapper;
 
     @Override
+    @Transactional
     public RequestOutDto createRequest(final Long userId,
                                        final RequestIncDto requestIncDto) {
 
         Request request = requestMapper.toRequestFromRequestIncDto(requestIncDto);
-        request.setRequestor(userRepository.findById(userId)
+        request.setRequestor(userRepository.findCachedById(userId)
+                .map(userMapper::toUserFromUserRow)
                 .orElseThrow(() -> new IncorrectUserIdException("Пользователь с id " + userId + " не найден")));
 
-        request.setCreated(LocalDateTime.now());
+        request.setCreated(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
         return requestMapper.toRequestOutDtoFromRequest(requestRepository.save(request));
     }
 
     @Override
     public List<RequestWithItemDto> getRequestsUser(final Long userId) {
 
-        userRepository.findById(userId)
-                .orElseThrow(() -> new IncorrectUserIdException("Пользователь с id " + userId + " не найден"));
+        userValidationService.checkUserExists(userId);
         return requestRepository.findAllByRequestorIdOrderByCreatedDesc(userId)
                 .stream()
                 .map(requestMapper::toRequestWithItemDtoFromRequest)
@@ -63,19 +74,32 @@ public class RequestServiceImpl implements RequestService {
     public List<RequestOutDto> getAllRequests(final Long userId,
                                               final Integer from,
                                               final Integer size) {
-        userRepository.findById(userId)
-                .orElseThrow(() -> new IncorrectUserIdException("Пользователь с id " + userId + " не найден"));
-        Pageable paging = PageRequest.of(from, size);
+        userValidationService.checkUserExists(userId);
+        Pageable paging = OffsetPageRequest.of(from, size);
         return requestRepository.getAllRequests(userId, paging)
                 .stream()
                 .map(requestMapper::toRequestOutDtoFromRequest)
                 .toList();
     }
 
+    @Override
+    public CursorPage<RequestOutDto> getAllRequestsByCursor(final Long userId,
+                                                            final Cursor cursor,
+                                                            final Integer size) {
+        userValidationService.checkUserExists(userId);
+        Pageable paging = OffsetPageRequest.of(0, size);
+        Slice<Request> requests = cursor.getTime() == null
+                ? requestRepository.getAllRequests(userId, paging)
+                : requestRepository.getAllRequestsAfter(userId, cursor.getTime(), cursor.getId(), paging);
+        return CursorPage.of(requests,
+                        request -> Cursor.encode(request.getCreated(), request.getId()))
+                .map(requestMapper::toRequestOutDtoFromRequest);
+    }
+
     @Override
     public RequestWithItemDto getRequest(final Long requestId) {
 
-        RequestWithItemDto request = requestMapper.toRequestWithItemDtoFromRequest(requestRepository.findById(requestId)
+        RequestWithItemDto request = requestMapper.toRequestWithItemDtoFromRequestRow(requestRepository.findCachedById(requestId)
                 .orElseThrow(() -> new IncorrectRequestIdException("Запрос с id " + requestId + " не найден")));
 
         request.setItems(
@@ -2,7 +2,9 @@ package ru.practicum.shareit.user;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.pagination.Cursor;
 import ru.practicum.shareit.user.annotations.UserControllerExceptionHandler;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.model.ResponseToUserDeletion;
@@ -48,10 +50,14 @@ public class UserController {
     }
 
     @GetMapping
-    public List<UserDto> getAllUsers(@RequestParam final Integer from,
-                                     @RequestParam final Integer size) {
+    public ResponseEntity<List<UserDto>> getAllUsers(@RequestParam(defaultValue = "0") final Integer from,
+                                                     @RequestParam final Integer size,
+                                                     @RequestParam(required = false) final String cursor) {
 
-        log.info("Get all users; from={}, size={}", from, size);
-        return userService.getAllUsers(from, size);
+        log.info("Get all users; from={}, size={}, cursor={}", from, size, cursor);
+        if (cursor != null)
+            return userService.getAllUsersByCursor(Cursor.decode(cursor), size).toResponseEntity();
+
+        return ResponseEntity.ok(userService.getAllUsers(from, size));
     }
 }
@@ -6,6 +6,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import ru.practicum.shareit.exception.DataException;
+import ru.practicum.shareit.exception.IncorrectCursorException;
 import ru.practicum.shareit.exception.IncorrectUserIdException;
 import ru.practicum.shareit.exception.handler.DefaultExceptionHandler;
 import ru.practicum.shareit.exception.handler.ErrorResponse;
@@ -30,4 +31,9 @@ public class UserExceptionHandler {
     public ResponseEntity<ErrorResponse> handleDataException(DataException e) {
         return DefaultExceptionHandler.response(HttpStatus.CONFLICT, e.getMessage(), path);
     }
+
+    @ExceptionHandler(IncorrectCursorException.class)
+    public ResponseEntity<ErrorResponse> handleIncorrectCursorException(IncorrectCursorException e) {
+        return DefaultExceptionHandler.response(HttpStatus.BAD_REQUEST, e.getMessage(), path);
+    }
 }
@@ -1,7 +1,22 @@
 package ru.practicum.shareit.user;
 
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.model.UserRow;
+
+import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
+
+    @Cacheable(cacheNames = "users", key = "#p0", unless = "#result == null")
+    @Query("select new ru.practicum.shareit.user.model.UserRow(u.id, u.name, u.email) " +
+            "from User as u " +
+            "where u.id = :id")
+    Optional<UserRow> findCachedById(Long id);
+
+    Slice<User> findAllByIdGreaterThanOrderById(Long afterId, Pageable paging);
 }
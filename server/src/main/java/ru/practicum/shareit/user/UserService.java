@@ -1,5 +1,7 @@
 package ru.practicum.shareit.user;
 
+import ru.practicum.shareit.pagination.Cursor;
+import ru.practicum.shareit.pagination.CursorPage;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.model.ResponseToUserDeletion;
 
@@ -16,4 +18,6 @@ public interface UserService {
     ResponseToUserDeletion delUser(Long userId);
 
     List<UserDto> getAllUsers(Integer from, Integer size);
+
+    CursorPage<UserDto> getAllUsersByCursor(Cursor cursor, Integer size);
 }
@@ -2,6 +2,7 @@ package ru.practicum.shareit.user.dto;
 
 import org.springframework.stereotype.Component;
 import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.model.UserRow;
 
 @Component
 public class UserMapper {
@@ -15,6 +16,18 @@ public class UserMapper {
                 user.getEmail());
     }
 
+    public UserDto toUserDtoFromUserRow(final UserRow user) {
+        return new UserDto(user.getId(),
+                user.getName(),
+                user.getEmail());
+    }
+
+    public User toUserFromUserRow(final UserRow user) {
+        return new User(user.getId(),
+                user.getName(),
+                user.getEmail());
+    }
+
     public User toUser(final UserDto userDto) {
 
         if (userDto == null) {
@@ -2,11 +2,17 @@ package ru.practicum.shareit.user.impliments;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.cache.CacheEvictor;
 import ru.practicum.shareit.exception.DataException;
 import ru.practicum.shareit.exception.IncorrectUserIdException;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.pagination.Cursor;
+import ru.practicum.shareit.pagination.CursorPage;
+import ru.practicum.shareit.pagination.OffsetPageRequest;
+import ru.practicum.shareit.request.RequestRepository;
 import ru.practicum.shareit.user.UserRepository;
 import ru.practicum.shareit.user.UserService;
 import ru.practicum.shareit.user.dto.UserDto;
@@ -19,14 +25,19 @@ import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final ItemRepository itemRepository;
+    private final RequestRepository requestRepository;
+    private final CacheEvictor cacheEvictor;
 
     @Override
+    @Transactional
     public UserDto createUser(final UserDto userDto) {
         try {
-            User user = userRepository.save(userMapper.toUser(userDto));
+            User user = userRepository.saveAndFlush(userMapper.toUser(userDto));
             return userMapper.toUserDto(user);
         } catch (DataIntegrityViolationException e) {
             throw new DataException("Пользователь с email " + userDto.getEmail() + " уже существует");
@@ -34,6 +45,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional
     public UserDto updateUser(final Long userId,
                               final UserDto userDto) {
 
@@ -45,7 +57,10 @@ public class UserServiceImpl implements UserService {
         if (userDto.getEmail() != null) user.setEmail(userDto.getEmail());
 
         try {
-            return userMapper.toUserDto(userRepository.save(user));
+            user = userRepository.saveAndFlush(user);
+            cacheEvictor.evictUser(userId);
+            cacheEvictor.evictItems(itemRepository.findIdsByOwnerId(userId));
+            return userMapper.toUserDto(user);
         } catch (DataIntegrityViolationException e) {
             throw new DataException("Пользователь с email " + userDto.getEmail() + " уже существует");
         }
@@ -53,13 +68,17 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public UserDto getUser(final Long userId) {
-        return userMapper.toUserDto(userRepository.findById(userId)
+        return userMapper.toUserDtoFromUserRow(userRepository.findCachedById(userId)
                 .orElseThrow(() -> new IncorrectUserIdException(
                         "Пользователь с id " + userId + " не найден.")));
     }
 
     @Override
+    @Transactional
     public ResponseToUserDeletion delUser(final Long userId) {
+        cacheEvictor.evictUser(userId);
+        cacheEvictor.evictItems(itemRepository.findIdsByOwnerId(userId));
+        cacheEvictor.evictRequests(requestRepository.findIdsByRequestorId(userId));
         userRepository.deleteById(userId);
         return new ResponseToUserDeletion(200, "Пользователь успешно удален", "/users");
     }
@@ -68,10 +87,19 @@ public class UserServiceImpl implements UserService {
     public List<UserDto> getAllUsers(final Integer from,
                                      final Integer size) {
 
-        Pageable paging = PageRequest.of(from, size);
-        return userRepository.findAll(paging)
+        Pageable paging = OffsetPageRequest.of(from, size);
+        return userRepository.findAllByIdGreaterThanOrderById(0L, paging)
                 .stream()
                 .map(userMapper::toUserDto)
                 .collect(Collectors.toList());
     }
+
+    @Override
+    public CursorPage<UserDto> getAllUsersByCursor(final Cursor cursor,
+                                                   final Integer size) {
+
+        return CursorPage.of(userRepository.findAllByIdGreaterThanOrderById(cursor.getIdOrZero(), OffsetPageRequest.of(0, size)),
+                        user -> Cursor.encode(user.getId()))
+                .map(userMapper::toUserDto);
+    }
 }
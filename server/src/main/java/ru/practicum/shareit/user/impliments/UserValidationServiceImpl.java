@@ -0,0 +1,29 @@
+package ru.practicum.shareit.user.impliments;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.exception.IncorrectUserIdException;
+import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.user.UserValidationService;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class UserValidationServiceImpl implements UserValidationService {
+    private final UserRepository userRepository;
+    private final CacheManager cacheManager;
+
+    @Override
+    public void checkUserExists(final Long userId) {
+
+        Cache users = cacheManager.getCache("users");
+        if (users != null && users.get(userId) != null)
+            return;
+
+        if (!userRepository.existsById(userId))
+            throw new IncorrectUserIdException("Пользователь с id " + userId + " не найден");
+    }
+}
@@ -1,10 +1,3 @@
-DROP TABLE IF EXISTS PUBLIC.comments;
---DROP CONSTRAINT IF EXISTS comments_pk;
-DROP TABLE IF EXISTS PUBLIC.bookings;
-DROP TABLE IF EXISTS PUBLIC.items;
-DROP TABLE IF EXISTS PUBLIC.item_requests;
-DROP TABLE IF EXISTS PUBLIC.users;
-
 CREATE TABLE public.users (
 	id int4 GENERATED ALWAYS AS IDENTITY NOT NULL,
 	name varchar NOT NULL,
@@ -56,4 +49,4 @@ CREATE TABLE public.comments (
 	CONSTRAINT comments_pk PRIMARY KEY (id),
 	CONSTRAINT comments_items_fk FOREIGN KEY (item) REFERENCES public.items(id),
 	CONSTRAINT comments_users_fk FOREIGN KEY (author) REFERENCES public.users(id)
-);
\ No newline at end of file
+);
@@ -0,0 +1,17 @@
+CREATE INDEX bookings_booker_start_idx ON public.bookings (booker, start_time DESC);
+
+CREATE INDEX bookings_booker_status_start_idx ON public.bookings (booker, status, start_time DESC);
+
+CREATE INDEX bookings_item_start_idx ON public.bookings (item, start_time DESC);
+
+CREATE INDEX bookings_item_booker_idx ON public.bookings (item, booker);
+
+CREATE INDEX items_owner_idx ON public.items (owner, id);
+
+CREATE INDEX items_request_idx ON public.items (request);
+
+CREATE INDEX item_requests_requestor_created_idx ON public.item_requests (requestor, created DESC);
+
+CREATE INDEX item_requests_created_idx ON public.item_requests (created, id);
+
+CREATE INDEX comments_item_idx ON public.comments (item, id);
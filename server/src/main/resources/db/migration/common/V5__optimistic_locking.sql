@@ -0,0 +1,3 @@
+ALTER TABLE public.bookings ADD COLUMN version int8 DEFAULT 0 NOT NULL;
+
+ALTER TABLE public.items ADD COLUMN version int8 DEFAULT 0 NOT NULL;
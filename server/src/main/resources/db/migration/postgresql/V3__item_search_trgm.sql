@@ -0,0 +1,9 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX items_name_trgm_idx
+	ON public.items USING gin (lower(name) gin_trgm_ops)
+	WHERE available = true;
+
+CREATE INDEX items_description_trgm_idx
+	ON public.items USING gin (lower(description) gin_trgm_ops)
+	WHERE available = true;
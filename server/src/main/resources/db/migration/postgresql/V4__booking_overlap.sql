@@ -0,0 +1,38 @@
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+-- Существующие базы могут уже содержать пересекающиеся бронирования, и ограничение ниже на них не создастся.
+-- Ожидающее бронирование, пересекающееся с подтверждённым или с более ранним ожидающим, отклоняется.
+UPDATE public.bookings b
+	SET status = 'REJECTED'
+	WHERE b.status = 'WAITING'
+		AND EXISTS (SELECT 1
+			FROM public.bookings o
+			WHERE o.item = b.item
+				AND o.id <> b.id
+				AND (o.status = 'APPROVED' OR (o.status = 'WAITING' AND o.id < b.id))
+				AND tsrange(o.start_time, o.end_time) && tsrange(b.start_time, b.end_time));
+
+-- Пересекающиеся подтверждённые бронирования автоматически не разрешаются: миграция останавливается со списком пар.
+-- Оператору нужно отменить по одному бронированию из каждой пары
+-- (UPDATE public.bookings SET status = 'CANCELED' WHERE id = ...) и перезапустить приложение.
+DO $$
+DECLARE
+	conflicts text;
+BEGIN
+	SELECT string_agg(b.id || '/' || o.id, ', ' ORDER BY b.id, o.id)
+		INTO conflicts
+		FROM public.bookings b
+		JOIN public.bookings o ON o.item = b.item AND o.id > b.id
+		WHERE b.status = 'APPROVED'
+			AND o.status = 'APPROVED'
+			AND tsrange(b.start_time, b.end_time) && tsrange(o.start_time, o.end_time);
+
+	IF conflicts IS NOT NULL THEN
+		RAISE EXCEPTION 'Пересекающиеся подтверждённые бронирования (id/id): %', conflicts;
+	END IF;
+END $$;
+
+ALTER TABLE public.bookings
+	ADD CONSTRAINT bookings_no_overlap
+	EXCLUDE USING gist (item WITH =, tsrange(start_time, end_time) WITH &&)
+	WHERE (status IN ('WAITING', 'APPROVED'));
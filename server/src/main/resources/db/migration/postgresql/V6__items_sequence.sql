@@ -0,0 +1,7 @@
+ALTER TABLE public.items ALTER COLUMN id DROP IDENTITY;
+
+CREATE SEQUENCE public.items_seq INCREMENT BY 50 OWNED BY public.items.id;
+
+SELECT setval('public.items_seq', COALESCE(MAX(id), 0) + 1, false) FROM public.items;
+
+ALTER TABLE public.items ALTER COLUMN id SET DEFAULT nextval('public.items_seq');
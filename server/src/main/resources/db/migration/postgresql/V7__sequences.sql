@@ -0,0 +1,31 @@
+ALTER TABLE public.users ALTER COLUMN id DROP IDENTITY;
+
+CREATE SEQUENCE public.users_seq INCREMENT BY 50 OWNED BY public.users.id;
+
+SELECT setval('public.users_seq', COALESCE(MAX(id), 0) + 1, false) FROM public.users;
+
+ALTER TABLE public.users ALTER COLUMN id SET DEFAULT nextval('public.users_seq');
+
+ALTER TABLE public.item_requests ALTER COLUMN id DROP IDENTITY;
+
+CREATE SEQUENCE public.item_requests_seq INCREMENT BY 50 OWNED BY public.item_requests.id;
+
+SELECT setval('public.item_requests_seq', COALESCE(MAX(id), 0) + 1, false) FROM public.item_requests;
+
+ALTER TABLE public.item_requests ALTER COLUMN id SET DEFAULT nextval('public.item_requests_seq');
+
+ALTER TABLE public.bookings ALTER COLUMN id DROP IDENTITY;
+
+CREATE SEQUENCE public.bookings_seq INCREMENT BY 50 OWNED BY public.bookings.id;
+
+SELECT setval('public.bookings_seq', COALESCE(MAX(id), 0) + 1, false) FROM public.bookings;
+
+ALTER TABLE public.bookings ALTER COLUMN id SET DEFAULT nextval('public.bookings_seq');
+
+ALTER TABLE public.comments ALTER COLUMN id DROP IDENTITY;
+
+CREATE SEQUENCE public.comments_seq INCREMENT BY 50 OWNED BY public.comments.id;
+
+SELECT setval('public.comments_seq', COALESCE(MAX(id), 0) + 1, false) FROM public.comments;
+
+ALTER TABLE public.comments ALTER COLUMN id SET DEFAULT nextval('public.comments_seq');
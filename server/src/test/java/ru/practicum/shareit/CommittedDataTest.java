@@ -0,0 +1,71 @@
+package ru.practicum.shareit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.jdbc.JdbcTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {"spring.profiles.active=test", "spring.datasource.url=jdbc:h2:mem:shareit-committed"})
+public abstract class CommittedDataTest {
+
+    @AfterEach
+    void deleteData(@Autowired JdbcTemplate jdbcTemplate,
+                    @Autowired CacheManager cacheManager) {
+        JdbcTestUtils.deleteFromTables(jdbcTemplate, "comments", "bookings", "items", "item_requests", "users");
+        cacheManager.getCacheNames().stream()
+                .map(cacheManager::getCache)
+                .filter(Objects::nonNull)
+                .forEach(Cache::clear);
+    }
+
+    protected static Outcome runConcurrently(final List<Callable<?>> tasks,
+                                             final Class<? extends RuntimeException> rejection) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(tasks.size());
+        CountDownLatch ready = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Callable<?> task : tasks)
+                futures.add(executor.submit(() -> {
+                    ready.await();
+                    try {
+                        task.call();
+                        succeeded.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        if (!rejection.isInstance(e))
+                            throw e;
+                        rejected.incrementAndGet();
+                    }
+                    return null;
+                }));
+
+            ready.countDown();
+            for (Future<?> future : futures)
+                future.get(30, TimeUnit.SECONDS);
+
+            return new Outcome(succeeded.get(), rejected.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    protected record Outcome(int succeeded, int rejected) {
+    }
+}
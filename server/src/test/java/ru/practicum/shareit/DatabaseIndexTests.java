@@ -0,0 +1,105 @@
+package ru.practicum.shareit;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {"spring.profiles.active=test", "spring.datasource.url=jdbc:h2:mem:shareit-indexes"})
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+public class DatabaseIndexTests {
+    private final JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void fillTables() {
+        if (jdbcTemplate.queryForObject("select count(*) from users", Integer.class) > 0)
+            return;
+
+        for (int i = 1; i <= 20; i++)
+            jdbcTemplate.update("insert into users (id, name, email) values (?, 'user', ?)", i, "user" + i + "@email.com");
+        for (int i = 1; i <= 20; i++)
+            jdbcTemplate.update("insert into item_requests (id, description, requestor, created) values (?, 'request', ?, now())", i, i);
+        for (int i = 0; i < 50; i++)
+            jdbcTemplate.update("insert into items (id, name, owner, available, request) values (?, 'item', ?, true, ?)",
+                    i + 1, i % 20 + 1, i % 20 + 1);
+        for (int i = 0; i < 2000; i++) {
+            jdbcTemplate.update("insert into bookings (start_time, end_time, item, booker, status) " +
+                            "values (dateadd('HOUR', ?, now()), dateadd('HOUR', ?, now()), ?, ?, ?)",
+                    i, i + 1, i % 50 + 1, i % 20 + 1, i % 3 == 0 ? "WAITING" : "APPROVED");
+            jdbcTemplate.update("insert into comments (author, item, text, created) values (?, ?, 'text', now())",
+                    i % 20 + 1, i % 50 + 1);
+        }
+        jdbcTemplate.execute("analyze");
+    }
+
+    @Test
+    void indexesCreatedTest() {
+        List<String> indexes = jdbcTemplate.queryForList(
+                "select lower(index_name) from information_schema.indexes where table_schema = 'PUBLIC'", String.class);
+
+        Assertions.assertTrue(indexes.containsAll(List.of(
+                "bookings_booker_start_idx",
+                "bookings_booker_status_start_idx",
+                "bookings_item_start_idx",
+                "bookings_item_booker_idx",
+                "items_owner_idx",
+                "items_request_idx",
+                "item_requests_requestor_created_idx",
+                "item_requests_created_idx",
+                "comments_item_idx")), indexes::toString);
+    }
+
+    @Test
+    void bookingsByBookerUseIndexTest() {
+        assertIndexLookup("select * from bookings b where b.booker = 1 order by b.start_time desc",
+                "BOOKER = 1");
+        assertUsesIndex("select * from bookings b where b.booker = 1 and b.status = 'WAITING' order by b.start_time desc",
+                "bookings_booker_status_start_idx");
+    }
+
+    @Test
+    void bookingsByOwnerUseIndexTest() {
+        String sql = "select b.* from bookings b join items it on b.item = it.id " +
+                "where it.owner = 1 order by b.start_time desc";
+
+        assertIndexLookup(sql, "OWNER = 1");
+        assertIndexLookup(sql, "ITEM = IT.ID");
+    }
+
+    @Test
+    void bookingsByItemUseIndexTest() {
+        assertUsesIndex("select * from bookings b where b.item in (1, 2) and b.status = 'APPROVED' and b.start_time < now()",
+                "bookings_item_start_idx");
+        assertUsesIndex("select * from bookings b where b.item = 1 and b.booker = 2 and b.status = 'APPROVED'",
+                "bookings_item_booker_idx");
+    }
+
+    @Test
+    void itemsRequestsAndCommentsUseIndexTest() {
+        assertIndexLookup("select * from items it where it.owner = 1 order by it.id", "OWNER = 1");
+        assertIndexLookup("select * from items it where it.request = 1", "REQUEST = 1");
+        assertIndexLookup("select * from item_requests r where r.requestor = 1 order by r.created desc", "REQUESTOR = 1");
+        assertIndexLookup("select * from comments c where c.item in (1, 2) order by c.id", "ITEM IN(1, 2)");
+    }
+
+    private void assertUsesIndex(String sql, String index) {
+        String plan = explain(sql);
+        Assertions.assertTrue(plan.contains("PUBLIC." + index.toUpperCase()), () -> index + " is not used:\n" + plan);
+    }
+
+    private void assertIndexLookup(String sql, String condition) {
+        String plan = explain(sql);
+        Assertions.assertFalse(plan.contains("tableScan"), () -> "Table scan:\n" + plan);
+        Assertions.assertTrue(plan.contains(": " + condition + " */"), () -> "No index lookup on " + condition + ":\n" + plan);
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.queryForObject("explain " + sql, String.class);
+    }
+}
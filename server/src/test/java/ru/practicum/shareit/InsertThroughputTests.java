@@ -0,0 +1,92 @@
+package ru.practicum.shareit;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.enums.BookingStatusEnum;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.item.CommentRepository;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+public class InsertThroughputTests extends CommittedDataTest {
+    private static final int ROWS = 2000;
+
+    private final UserRepository userRepository;
+    private final ItemRepository itemRepository;
+    private final BookingRepository bookingRepository;
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final LocalDateTime start = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).plusDays(1);
+
+    private User owner;
+    private User author;
+    private Item item;
+
+    @BeforeEach
+    void createData() {
+        owner = userRepository.save(new User(null, "owner", "owner@email.com"));
+        author = userRepository.save(new User(null, "author", "author@email.com"));
+        item = itemRepository.save(new Item(null, "item", "description", owner, 0, true, null, null));
+    }
+
+    @Test
+    void usersInsertedInBatchesTest() {
+        assertBatched("users", i -> userRepository.saveAll(users(i)));
+    }
+
+    @Test
+    void bookingsInsertedInBatchesTest() {
+        assertBatched("bookings", i -> bookingRepository.saveAll(bookings(i)));
+    }
+
+    @Test
+    void commentsInsertedInBatchesTest() {
+        assertBatched("comments", i -> commentRepository.saveAll(comments(i)));
+    }
+
+    private void assertBatched(final String table, final IntFunction<List<?>> insert) {
+        long statements = QueryStatistics.count(entityManagerFactory,
+                () -> transactionTemplate.executeWithoutResult(status -> insert.apply(ROWS))).statements();
+        Assertions.assertTrue(statements < ROWS / 10, "Вставка в " + table + ", подготовлено запросов: " + statements);
+    }
+
+    private List<User> users(final int count) {
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++)
+            users.add(new User(null, "user", "user" + i + "@email.com"));
+        return users;
+    }
+
+    private List<Booking> bookings(final int count) {
+        List<Booking> bookings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++)
+            bookings.add(new Booking(null, start.plusHours(i), start.plusHours(i + 1), item, author,
+                    BookingStatusEnum.WAITING, null));
+        return bookings;
+    }
+
+    private List<Comment> comments(final int count) {
+        List<Comment> comments = new ArrayList<>(count);
+        for (int i = 0; i < count; i++)
+            comments.add(new Comment(null, item, author, "comment" + i, LocalDateTime.now()));
+        return comments;
+    }
+}
@@ -0,0 +1,36 @@
+package ru.practicum.shareit;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+public final class QueryStatistics {
+    private QueryStatistics() {
+    }
+
+    public static Counts count(final EntityManagerFactory entityManagerFactory,
+                               final Runnable action) {
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        statistics.setStatisticsEnabled(true);
+        try {
+            action.run();
+            return new Counts(statistics.getPrepareStatementCount(), statistics.getEntityLoadCount());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
+    public static Counts countAfterFlush(final EntityManager entityManager,
+                                         final Runnable action) {
+
+        entityManager.flush();
+        entityManager.clear();
+        return count(entityManager.getEntityManagerFactory(), action);
+    }
+
+    public record Counts(long statements, long entityLoads) {
+    }
+}
@@ -0,0 +1,66 @@
+package ru.practicum.shareit;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfoService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+public class SchemaMigrationTests {
+
+    @Test
+    void restartKeepsDataTest() {
+        String url = "jdbc:h2:mem:shareit-restart;DB_CLOSE_DELAY=-1";
+        int migrations;
+
+        try (ConfigurableApplicationContext context = startServer(url)) {
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            jdbcTemplate.update("insert into users (name, email) values ('user', 'user@email.com')");
+            migrations = countMigrations(jdbcTemplate);
+        }
+
+        try (ConfigurableApplicationContext context = startServer(url)) {
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            MigrationInfoService info = context.getBean(Flyway.class).info();
+
+            Assertions.assertEquals(1, jdbcTemplate.queryForObject("select count(*) from users", Integer.class));
+            Assertions.assertEquals(migrations, countMigrations(jdbcTemplate));
+            Assertions.assertEquals(0, info.pending().length);
+        }
+    }
+
+    @Test
+    void existingSchemaIsBaselinedTest() {
+        String url = "jdbc:h2:mem:shareit-existing;DB_CLOSE_DELAY=-1";
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(url, "postgres", "postgres");
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/common/V1__init.sql")).execute(dataSource);
+        new JdbcTemplate(dataSource).update("insert into users (name, email) values ('user', 'user@email.com')");
+
+        try (ConfigurableApplicationContext context = startServer(url)) {
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+            Assertions.assertEquals(1, jdbcTemplate.queryForObject("select count(*) from users", Integer.class));
+            Assertions.assertEquals("1", jdbcTemplate.queryForObject(
+                    "select \"version\" from \"flyway_schema_history\" where \"type\" = 'BASELINE'", String.class));
+            Assertions.assertEquals(1, jdbcTemplate.queryForObject(
+                    "select count(*) from information_schema.indexes where index_name = 'BOOKINGS_BOOKER_START_IDX'",
+                    Integer.class));
+        }
+    }
+
+    private ConfigurableApplicationContext startServer(String url) {
+        return new SpringApplicationBuilder(ShareItServer.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.profiles.active=test", "--spring.datasource.url=" + url);
+    }
+
+    private int countMigrations(JdbcTemplate jdbcTemplate) {
+        return jdbcTemplate.queryForObject("select count(*) from \"flyway_schema_history\"", Integer.class);
+    }
+}
@@ -0,0 +1,94 @@
+package ru.practicum.shareit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.booking.BookingService;
+import ru.practicum.shareit.booking.dto.model.BookingIncDto;
+import ru.practicum.shareit.item.ItemService;
+import ru.practicum.shareit.item.dto.model.CommentIncDto;
+import ru.practicum.shareit.item.dto.model.ItemIncDto;
+import ru.practicum.shareit.request.RequestService;
+import ru.practicum.shareit.request.dto.model.RequestIncDto;
+import ru.practicum.shareit.user.UserService;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+public class TransactionBoundaryTests extends CommittedDataTest {
+    private final UserService userService;
+    private final ItemService itemService;
+    private final BookingService bookingService;
+    private final RequestService requestService;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ObjectMapper objectMapper;
+
+    private Long ownerId;
+    private Long bookerId;
+    private Long itemId;
+    private Long requestId;
+    private Long bookingId;
+
+    @BeforeEach
+    void createData() {
+        ownerId = userService.createUser(new UserDto(null, "owner", "owner@email.com")).getId();
+        bookerId = userService.createUser(new UserDto(null, "booker", "booker@email.com")).getId();
+        requestId = requestService.createRequest(bookerId, new RequestIncDto(null, "need a drill")).getId();
+        itemId = itemService.createItem(new ItemIncDto("Drill", "Electric drill", true, requestId), ownerId).getId();
+
+        LocalDateTime now = LocalDateTime.now();
+        bookingId = bookingService.createBooking(
+                new BookingIncDto(itemId, now.minusDays(2), now.minusDays(1)), bookerId).getId();
+        bookingService.approvedBooking(ownerId, bookingId, true);
+        bookingService.createBooking(new BookingIncDto(itemId, now.plusDays(1), now.plusDays(2)), bookerId);
+        itemService.addComment(new CommentIncDto("good"), itemId, bookerId);
+    }
+
+    @Test
+    void servicesRunWithoutOuterTransactionTest() {
+        Assertions.assertFalse(TransactionSynchronizationManager.isActualTransactionActive());
+    }
+
+    @Test
+    void usersAreSerializedWithoutLazyLoadingTest() {
+        assertNoLazyLoading(() -> userService.getUser(ownerId));
+        assertNoLazyLoading(() -> userService.getAllUsers(0, 10));
+    }
+
+    @Test
+    void itemsAreSerializedWithoutLazyLoadingTest() {
+        assertNoLazyLoading(() -> itemService.getItem(itemId, ownerId));
+        assertNoLazyLoading(() -> itemService.getItem(itemId, bookerId));
+        assertNoLazyLoading(() -> itemService.getItemsUser(ownerId, 0, 10));
+        assertNoLazyLoading(() -> itemService.searchItems("drill", 0, 10));
+    }
+
+    @Test
+    void bookingsAreSerializedWithoutLazyLoadingTest() {
+        assertNoLazyLoading(() -> bookingService.getBooking(bookerId, bookingId));
+        assertNoLazyLoading(() -> bookingService.getAllBookingsUser(bookerId, "ALL", 0, 10));
+        assertNoLazyLoading(() -> bookingService.getAllBookingsItemsUser(ownerId, "ALL", 0, 10));
+    }
+
+    @Test
+    void requestsAreSerializedWithoutLazyLoadingTest() {
+        assertNoLazyLoading(() -> requestService.getRequest(requestId));
+        assertNoLazyLoading(() -> requestService.getRequestsUser(bookerId));
+        assertNoLazyLoading(() -> requestService.getAllRequests(ownerId, 0, 10));
+    }
+
+    private void assertNoLazyLoading(Supplier<Object> serviceCall) {
+        Object result = serviceCall.get();
+
+        QueryStatistics.Counts counts = QueryStatistics.count(entityManagerFactory,
+                () -> Assertions.assertDoesNotThrow(() -> objectMapper.writeValueAsString(result)));
+        Assertions.assertEquals(0, counts.statements());
+    }
+}
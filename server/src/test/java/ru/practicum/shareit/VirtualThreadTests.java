@@ -0,0 +1,98 @@
+package ru.practicum.shareit;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import org.apache.catalina.Wrapper;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.user.model.User;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"spring.profiles.active=test,virtual", "spring.datasource.url=jdbc:h2:mem:shareit-virtual"})
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+public class VirtualThreadTests {
+    private static final int CONCURRENCY = 200;
+
+    private final ServletWebServerApplicationContext context;
+    private final HikariDataSource dataSource;
+    private final TaskExecutor applicationTaskExecutor;
+    private final UserRepository userRepository;
+
+    @Test
+    void virtualThreadModeConfiguredTest() {
+        TomcatWebServer webServer = (TomcatWebServer) context.getWebServer();
+
+        Assertions.assertInstanceOf(VirtualThreadExecutor.class,
+                webServer.getTomcat().getConnector().getProtocolHandler().getExecutor());
+        SimpleAsyncTaskExecutor executor = Assertions.assertInstanceOf(SimpleAsyncTaskExecutor.class, applicationTaskExecutor);
+        Assertions.assertEquals(dataSource.getMaximumPoolSize(), executor.getConcurrencyLimit());
+        Assertions.assertEquals(20, dataSource.getMaximumPoolSize());
+    }
+
+    @Test
+    void dispatcherServletInitializedOnStartupTest() {
+        Wrapper dispatcherServlet = (Wrapper) ((TomcatWebServer) context.getWebServer()).getTomcat().getHost()
+                .findChildren()[0]
+                .findChild(DispatcherServletAutoConfiguration.DEFAULT_DISPATCHER_SERVLET_BEAN_NAME);
+
+        Assertions.assertTrue(dispatcherServlet.getLoadOnStartup() > 0);
+    }
+
+    @Test
+    void concurrentRequestsDoNotPinVirtualThreadsTest() throws Exception {
+        User user = userRepository.save(new User(null, "user", "user@email.com"));
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + context.getWebServer().getPort()
+                                                                + "/bookings?state=ALL&size=10"))
+                .header("X-Sharer-User-Id", String.valueOf(user.getId()))
+                .GET()
+                .build();
+
+        List<RecordedEvent> pinned = new CopyOnWriteArrayList<>();
+        try (RecordingStream recording = new RecordingStream()) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            recording.onEvent("jdk.VirtualThreadPinned", pinned::add);
+            recording.startAsync();
+
+            List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>(CONCURRENCY);
+            for (int i = 0; i < CONCURRENCY; i++)
+                responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+            for (CompletableFuture<HttpResponse<Void>> response : responses)
+                Assertions.assertEquals(200, response.get().statusCode());
+            recording.stop();
+        }
+
+        Assertions.assertEquals(List.of(), pinned.stream().map(VirtualThreadTests::describe).toList());
+    }
+
+    private static String describe(final RecordedEvent event) {
+        return event.getThread().getJavaName() + " " + event.getStackTrace().getFrames().stream()
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                              + ":" + frame.getLineNumber())
+                .toList();
+    }
+}
@@ -0,0 +1,134 @@
+package ru.practicum.shareit.booking;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import ru.practicum.shareit.CommittedDataTest;
+import ru.practicum.shareit.booking.dto.model.BookingApprovalIncDto;
+import ru.practicum.shareit.booking.dto.model.BookingIncDto;
+import ru.practicum.shareit.booking.enums.BookingStatusEnum;
+import ru.practicum.shareit.exception.FailApprovedBookingException;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.ItemService;
+import ru.practicum.shareit.item.dto.model.ItemIncDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.UserService;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+public class BookingApprovalTests extends CommittedDataTest {
+    private static final int THREADS = 16;
+
+    private final BookingService bookingService;
+    private final BookingRepository bookingRepository;
+    private final UserService userService;
+    private final ItemService itemService;
+    private final ItemRepository itemRepository;
+
+    private final LocalDateTime start = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS).plusDays(1);
+
+    private Long ownerId;
+    private Long bookerId;
+    private Long itemId;
+
+    @BeforeEach
+    void createData() {
+        ownerId = userService.createUser(new UserDto(null, "owner", "owner@email.com")).getId();
+        bookerId = userService.createUser(new UserDto(null, "booker", "booker@email.com")).getId();
+        itemId = itemService.createItem(new ItemIncDto("Drill", "Electric drill", true, null), ownerId).getId();
+    }
+
+    @Test
+    void concurrentApprovalsOfOneBookingTest() throws Exception {
+        Long bookingId = bookingService.createBooking(
+                new BookingIncDto(itemId, start, start.plusDays(1)), bookerId).getId();
+
+        List<Callable<?>> tasks = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++)
+            tasks.add(() -> bookingService.approvedBooking(ownerId, bookingId, true));
+
+        Outcome outcome = runConcurrently(tasks, FailApprovedBookingException.class);
+
+        Assertions.assertEquals(1, outcome.succeeded());
+        Assertions.assertEquals(THREADS - 1, outcome.rejected());
+        Assertions.assertEquals(BookingStatusEnum.APPROVED, bookingRepository.findById(bookingId).orElseThrow().getStatus());
+        Assertions.assertEquals(1, itemRepository.findById(itemId).orElseThrow().getNumberOfRentals());
+    }
+
+    @Test
+    void concurrentApprovalsOfDifferentBookingsTest() throws Exception {
+        List<Callable<?>> tasks = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            Long bookingId = bookingService.createBooking(
+                    new BookingIncDto(itemId, start.plusDays(i), start.plusDays(i + 1)), bookerId).getId();
+            tasks.add(() -> bookingService.approvedBooking(ownerId, bookingId, true));
+        }
+
+        Outcome outcome = runConcurrently(tasks, FailApprovedBookingException.class);
+
+        Assertions.assertEquals(THREADS, outcome.succeeded());
+        Assertions.assertEquals(THREADS, itemRepository.findById(itemId).orElseThrow().getNumberOfRentals());
+    }
+
+    @Test
+    void concurrentOverlappingBatchApprovalsTest() throws Exception {
+        List<Long> itemIds = new ArrayList<>(List.of(itemId));
+        for (int i = 1; i < 4; i++)
+            itemIds.add(itemService.createItem(new ItemIncDto("Drill " + i, "Electric drill", true, null), ownerId).getId());
+
+        List<List<Long>> bookingIds = new ArrayList<>();
+        for (Long id : itemIds) {
+            List<Long> itemBookingIds = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++)
+                itemBookingIds.add(bookingService.createBooking(
+                        new BookingIncDto(id, start.plusDays(i), start.plusDays(i + 1)), bookerId).getId());
+            bookingIds.add(itemBookingIds);
+        }
+
+        List<Callable<?>> tasks = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            List<Long> batch = new ArrayList<>();
+            for (List<Long> itemBookingIds : bookingIds) {
+                batch.add(itemBookingIds.get(i));
+                batch.add(itemBookingIds.get((i + 1) % THREADS));
+            }
+            if (i % 2 == 1)
+                Collections.reverse(batch);
+            tasks.add(() -> bookingService.approvedBookings(ownerId, new BookingApprovalIncDto(batch, true)));
+        }
+
+        Outcome outcome = runConcurrently(tasks, FailApprovedBookingException.class);
+
+        Assertions.assertEquals(THREADS, outcome.succeeded());
+        for (Long id : itemIds)
+            Assertions.assertEquals(THREADS, itemRepository.findById(id).orElseThrow().getNumberOfRentals());
+        Assertions.assertTrue(bookingRepository.findAll().stream()
+                .allMatch(booking -> booking.getStatus() == BookingStatusEnum.APPROVED));
+    }
+
+    @Test
+    void staleItemIsNotOverwrittenTest() {
+        Item stale = itemRepository.findById(itemId).orElseThrow();
+        Long bookingId = bookingService.createBooking(
+                new BookingIncDto(itemId, start, start.plusDays(1)), bookerId).getId();
+        bookingService.approvedBooking(ownerId, bookingId, true);
+
+        stale.setName("Hammer");
+        Assertions.assertThrows(ObjectOptimisticLockingFailureException.class, () -> itemRepository.save(stale));
+
+        Item item = itemRepository.findById(itemId).orElseThrow();
+        Assertions.assertEquals("Drill", item.getName());
+        Assertions.assertEquals(1, item.getNumberOfRentals());
+        Assertions.assertEquals(stale.getVersion() + 1, item.getVersion());
+    }
+}
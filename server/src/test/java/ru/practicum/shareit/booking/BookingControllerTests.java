@@ -7,11 +7,15 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.booking.dto.model.BookingApprovalIncDto;
+import ru.practicum.shareit.booking.dto.model.BookingApprovalOutDto;
 import ru.practicum.shareit.booking.dto.model.BookingIncDto;
 import ru.practicum.shareit.booking.dto.model.BookingOutDto;
 import ru.practicum.shareit.booking.enums.BookingStatusEnum;
 import ru.practicum.shareit.exception.*;
 import ru.practicum.shareit.item.dto.model.ItemOutDto;
+import ru.practicum.shareit.pagination.Cursor;
+import ru.practicum.shareit.pagination.CursorPage;
 import ru.practicum.shareit.user.dto.UserDto;
 
 import java.nio.charset.StandardCharsets;
@@ -21,6 +25,7 @@ import java.util.List;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -94,6 +99,24 @@ public class BookingControllerTests {
                 .andExpect(jsonPath("$.path").value("/bookings"));
     }
 
+    @Test
+    void createOverlappingBookingTest() throws Exception {
+        when(bookingService.createBooking(any(), anyLong()))
+                .thenThrow(new BookingOverlapException("Предмет с id 1 уже забронирован на указанный период"));
+
+        BookingIncDto bookingIncDto = new BookingIncDto(1L, start, end);
+        mvc.perform(post("/bookings")
+                        .content(mapper.writeValueAsString(bookingIncDto))
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .header(userIdHead, 1))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value(409))
+                .andExpect(jsonPath("$.error").value("Предмет с id 1 уже забронирован на указанный период"))
+                .andExpect(jsonPath("$.path").value("/bookings"));
+    }
+
     @Test
     void createBookingWithIncorrectItemIdTest() throws Exception {
         when(bookingService.createBooking(any(), anyLong()))
@@ -204,6 +227,28 @@ public class BookingControllerTests {
                 .andExpect(jsonPath("$.item.owner.email").value(itemOutDto.getOwner().getEmail()));
     }
 
+    @Test
+    void approvedBookingsTest() throws Exception {
+        when(bookingService.approvedBookings(anyLong(), any()))
+                .thenReturn(List.of(
+                        new BookingApprovalOutDto(1L, BookingStatusEnum.APPROVED, null),
+                        new BookingApprovalOutDto(2L, null, "Бронирование с id 2 не найдено")));
+
+        mvc.perform(patch("/bookings/batch")
+                        .content(mapper.writeValueAsString(new BookingApprovalIncDto(List.of(1L, 2L), true)))
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .header(userIdHead, 1))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].bookingId").value(1L))
+                .andExpect(jsonPath("$[0].status").value("APPROVED"))
+                .andExpect(jsonPath("$[0].error").isEmpty())
+                .andExpect(jsonPath("$[1].bookingId").value(2L))
+                .andExpect(jsonPath("$[1].status").isEmpty())
+                .andExpect(jsonPath("$[1].error").value("Бронирование с id 2 не найдено"));
+    }
+
     @Test
     void approvedBookingWithIncorrectBookingIdTest() throws Exception {
         when(bookingService.approvedBooking(anyLong(), anyLong(), anyBoolean()))
@@ -406,6 +451,40 @@ public class BookingControllerTests {
                 .andExpect(jsonPath("[1].item.owner.email").value(itemOutDto.getOwner().getEmail()));
     }
 
+    @Test
+    void getAllBookingsUserByCursorTest() throws Exception {
+        UserDto owner = createUser("owner@email.com");
+        UserDto booker = createUser("booker@email.com");
+        ItemOutDto itemOutDto = createItemOutDto(owner);
+
+        BookingOutDto booking = new BookingOutDto(1L, start, end, itemOutDto, booker, BookingStatusEnum.APPROVED);
+        String nextCursor = Cursor.encode(start, 1L);
+        when(bookingService.getAllBookingsUserByCursor(anyLong(), any(), any(), anyInt()))
+                .thenReturn(new CursorPage<>(List.of(booking), nextCursor));
+
+        mvc.perform(get("/bookings?state=all&size=1&cursor=")
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .header(userIdHead, booker.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(CursorPage.NEXT_CURSOR_HEADER, nextCursor))
+                .andExpect(jsonPath("[0].id").value(1L));
+    }
+
+    @Test
+    void getAllBookingsUserWithIncorrectCursorTest() throws Exception {
+        mvc.perform(get("/bookings?state=all&size=1&cursor=not-a-cursor")
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .header(userIdHead, 1))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400))
+                .andExpect(jsonPath("$.error").value("Некорректный курсор not-a-cursor"))
+                .andExpect(jsonPath("$.path").value("/bookings"));
+    }
+
     @Test
     void getAllBookingsUserWithIncorrectUserIdTest() throws Exception {
         when(bookingService.getAllBookingsUser(anyLong(), any(), anyInt(), anyInt()))
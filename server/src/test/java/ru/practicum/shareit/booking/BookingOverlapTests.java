@@ -0,0 +1,86 @@
+package ru.practicum.shareit.booking;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import ru.practicum.shareit.CommittedDataTest;
+import ru.practicum.shareit.booking.dto.model.BookingIncDto;
+import ru.practicum.shareit.booking.dto.model.BookingOutDto;
+import ru.practicum.shareit.exception.BookingOverlapException;
+import ru.practicum.shareit.item.ItemService;
+import ru.practicum.shareit.item.dto.model.ItemIncDto;
+import ru.practicum.shareit.user.UserService;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+public class BookingOverlapTests extends CommittedDataTest {
+    private static final int THREADS = 16;
+
+    private final BookingService bookingService;
+    private final UserService userService;
+    private final ItemService itemService;
+
+    private final LocalDateTime start = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS).plusDays(1);
+    private final LocalDateTime end = start.plusDays(2);
+
+    private Long ownerId;
+    private Long bookerId;
+    private Long itemId;
+
+    @BeforeEach
+    void createData() {
+        ownerId = userService.createUser(new UserDto(null, "owner", "owner@email.com")).getId();
+        bookerId = userService.createUser(new UserDto(null, "booker", "booker@email.com")).getId();
+        itemId = itemService.createItem(new ItemIncDto("Drill", "Electric drill", true, null), ownerId).getId();
+    }
+
+    @Test
+    void createOverlappingBookingTest() {
+        BookingOutDto booking = bookingService.createBooking(new BookingIncDto(itemId, start, end), bookerId);
+
+        BookingOverlapException e = Assertions.assertThrows(
+                BookingOverlapException.class,
+                () -> bookingService.createBooking(new BookingIncDto(itemId, start.plusDays(1), end.plusDays(1)), bookerId)
+        );
+        Assertions.assertEquals("Предмет с id " + itemId + " уже забронирован на указанный период", e.getMessage());
+
+        Assertions.assertDoesNotThrow(() -> bookingService.createBooking(new BookingIncDto(itemId, end, end.plusDays(1)), bookerId));
+
+        bookingService.approvedBooking(ownerId, booking.getId(), false);
+        Assertions.assertDoesNotThrow(() -> bookingService.createBooking(new BookingIncDto(itemId, start, end), bookerId));
+    }
+
+    @Test
+    void concurrentBookingsOfOneIntervalTest() throws Exception {
+        List<Callable<?>> tasks = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++)
+            tasks.add(() -> bookingService.createBooking(new BookingIncDto(itemId, start, end), bookerId));
+
+        Outcome outcome = runConcurrently(tasks, BookingOverlapException.class);
+
+        Assertions.assertEquals(1, outcome.succeeded());
+        Assertions.assertEquals(THREADS - 1, outcome.rejected());
+    }
+
+    @Test
+    void concurrentBookingsOfDisjointIntervalsTest() throws Exception {
+        List<Callable<?>> tasks = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            LocalDateTime dayStart = start.plusDays(i);
+            tasks.add(() -> bookingService.createBooking(new BookingIncDto(itemId, dayStart, dayStart.plusDays(1)), bookerId));
+        }
+
+        Outcome outcome = runConcurrently(tasks, BookingOverlapException.class);
+
+        Assertions.assertEquals(THREADS, outcome.succeeded());
+        Assertions.assertEquals(0, outcome.rejected());
+    }
+}
@@ -1,23 +1,39 @@
 package ru.practicum.shareit.booking;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.QueryStatistics;
+import ru.practicum.shareit.booking.dto.BookingMapper;
+import ru.practicum.shareit.booking.dto.model.BookingApprovalIncDto;
+import ru.practicum.shareit.booking.dto.model.BookingApprovalOutDto;
 import ru.practicum.shareit.booking.dto.model.BookingIncDto;
 import ru.practicum.shareit.booking.dto.model.BookingOutDto;
+import ru.practicum.shareit.booking.enums.BookingRoleEnum;
 import ru.practicum.shareit.booking.enums.BookingStatusEnum;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingFilter;
+import ru.practicum.shareit.booking.model.BookingRow;
 import ru.practicum.shareit.exception.*;
 import ru.practicum.shareit.item.ItemService;
 import ru.practicum.shareit.item.dto.model.ItemIncDto;
 import ru.practicum.shareit.item.dto.model.ItemOutDto;
+import ru.practicum.shareit.pagination.Cursor;
+import ru.practicum.shareit.pagination.CursorPage;
+import ru.practicum.shareit.pagination.OffsetPageRequest;
 import ru.practicum.shareit.user.UserService;
 import ru.practicum.shareit.user.dto.UserDto;
 
+import java.lang.management.ManagementFactory;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 
 @Transactional
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE,
@@ -25,11 +41,14 @@ import java.util.List;
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
 public class BookingServiceTests {
     private final BookingService bookingService;
+    private final BookingRepository bookingRepository;
     private final UserService userService;
     private final ItemService itemService;
+    private final EntityManager entityManager;
+    private final BookingMapper bookingMapper;
 
-    private final LocalDateTime start = LocalDateTime.now().plusDays(1);
-    private final LocalDateTime end = LocalDateTime.now().plusDays(2);
+    private final LocalDateTime start = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS).plusDays(1);
+    private final LocalDateTime end = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS).plusDays(2);
 
     @Test
     void createBookingTest() {
@@ -137,6 +156,60 @@ public class BookingServiceTests {
         Assertions.assertEquals("Подтверждение бронирования уже произошло. Статус бронирования: " + BookingStatusEnum.APPROVED, e2.getMessage());
     }
 
+    @Test
+    void approvedBookingsTest() {
+        UserDto owner = createUserDto("owner@email.com");
+        UserDto otherOwner = createUserDto("other_owner@email.com");
+        UserDto booker = createUserDto("booker@email.com");
+        ItemOutDto item = createItemOutDto(owner.getId());
+        ItemOutDto otherItem = createItemOutDto(owner.getId());
+        ItemOutDto foreignItem = createItemOutDto(otherOwner.getId());
+
+        Long first = bookingService.createBooking(new BookingIncDto(item.getId(), start, end), booker.getId()).getId();
+        Long second = bookingService.createBooking(
+                new BookingIncDto(item.getId(), end, end.plusDays(1)), booker.getId()).getId();
+        Long third = bookingService.createBooking(new BookingIncDto(otherItem.getId(), start, end), booker.getId()).getId();
+        Long approved = bookingService.createBooking(
+                new BookingIncDto(otherItem.getId(), end, end.plusDays(1)), booker.getId()).getId();
+        Long foreign = bookingService.createBooking(new BookingIncDto(foreignItem.getId(), start, end), booker.getId()).getId();
+        bookingService.approvedBooking(owner.getId(), approved, true);
+
+        List<BookingApprovalOutDto> results = bookingService.approvedBookings(owner.getId(),
+                new BookingApprovalIncDto(List.of(first, second, third, approved, foreign, 1000L, first), true));
+
+        Assertions.assertEquals(List.of(
+                new BookingApprovalOutDto(first, BookingStatusEnum.APPROVED, null),
+                new BookingApprovalOutDto(second, BookingStatusEnum.APPROVED, null),
+                new BookingApprovalOutDto(third, BookingStatusEnum.APPROVED, null),
+                new BookingApprovalOutDto(approved, BookingStatusEnum.APPROVED,
+                        "Подтверждение бронирования уже произошло. Статус бронирования: " + BookingStatusEnum.APPROVED),
+                new BookingApprovalOutDto(foreign, null, "Бронирование может подтвердить только владелец вещи"),
+                new BookingApprovalOutDto(1000L, null, "Бронирование с id 1000 не найдено")), results);
+
+        Assertions.assertEquals(BookingStatusEnum.APPROVED, bookingService.getBooking(booker.getId(), first).getStatus());
+        Assertions.assertEquals(BookingStatusEnum.WAITING, bookingService.getBooking(booker.getId(), foreign).getStatus());
+        Assertions.assertEquals(2, itemService.getItem(item.getId(), owner.getId()).getNumberOfRentals());
+        Assertions.assertEquals(2, itemService.getItem(otherItem.getId(), owner.getId()).getNumberOfRentals());
+        Assertions.assertNull(itemService.getItem(foreignItem.getId(), otherOwner.getId()).getNumberOfRentals());
+    }
+
+    @Test
+    void approvedBookingsIssuesConstantStatementsTest() {
+        UserDto owner = createUserDto("owner@email.com");
+        UserDto booker = createUserDto("booker@email.com");
+        List<Long> small = new ArrayList<>();
+        List<Long> large = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            Long bookingId = bookingService.createBooking(
+                    new BookingIncDto(createItemOutDto(owner.getId()).getId(), start, end), booker.getId()).getId();
+            (i < 2 ? small : large).add(bookingId);
+        }
+
+        Assertions.assertEquals(
+                countStatements(() -> bookingService.approvedBookings(owner.getId(), new BookingApprovalIncDto(small, true))),
+                countStatements(() -> bookingService.approvedBookings(owner.getId(), new BookingApprovalIncDto(large, true))));
+    }
+
     @Test
     void getBooking() {
         UserDto owner = createUserDto("owner@email.com");
@@ -183,6 +256,7 @@ public class BookingServiceTests {
         UserDto owner = createUserDto("owner@email.com");
         UserDto booker = createUserDto("booker@email.com");
         ItemOutDto itemOutDto = createItemOutDto(owner.getId());
+        ItemOutDto otherItemOutDto = createItemOutDto(owner.getId());
 
         BookingOutDto booking1 = bookingService.createBooking(
                 new BookingIncDto(itemOutDto.getId(), start, end), booker.getId());
@@ -191,7 +265,7 @@ public class BookingServiceTests {
                 new BookingIncDto(itemOutDto.getId(), start.minusDays(5), end.minusDays(4)), booker.getId());
 
         BookingOutDto booking3 = bookingService.createBooking(
-                new BookingIncDto(itemOutDto.getId(), start.minusDays(5), end.plusDays(3)), booker.getId());
+                new BookingIncDto(otherItemOutDto.getId(), start.minusDays(5), end.plusDays(3)), booker.getId());
 
         List<BookingOutDto> bookingsIs = bookingService.getAllBookingsUser(booker.getId(), "ALL", 0, 10);
         Assertions.assertEquals(bookingsIs, List.of(booking1, booking2, booking3));
@@ -265,6 +339,166 @@ public class BookingServiceTests {
         Assertions.assertEquals("Пользователь с id 1000 не найден", e.getMessage());
     }
 
+    @Test
+    void getAllBookingsUserByCursorTest() {
+        UserDto owner = createUserDto("owner@email.com");
+        UserDto booker = createUserDto("booker@email.com");
+        ItemOutDto itemOutDto = createItemOutDto(owner.getId());
+        ItemOutDto otherItemOutDto = createItemOutDto(owner.getId());
+
+        BookingOutDto booking1 = bookingService.createBooking(
+                new BookingIncDto(itemOutDto.getId(), start, end), booker.getId());
+
+        BookingOutDto booking2 = bookingService.createBooking(
+                new BookingIncDto(itemOutDto.getId(), start.minusDays(5), end.minusDays(4)), booker.getId());
+
+        BookingOutDto booking3 = bookingService.createBooking(
+                new BookingIncDto(otherItemOutDto.getId(), start.minusDays(5), end.plusDays(3)), booker.getId());
+
+        CursorPage<BookingOutDto> page = bookingService.getAllBookingsUserByCursor(
+                booker.getId(), "ALL", Cursor.decode(null), 2);
+        Assertions.assertEquals(List.of(booking1, booking2), page.getContent());
+        Assertions.assertNotNull(page.getNextCursor());
+
+        page = bookingService.getAllBookingsUserByCursor(
+                booker.getId(), "ALL", Cursor.decode(page.getNextCursor()), 2);
+        Assertions.assertEquals(List.of(booking3), page.getContent());
+        Assertions.assertNull(page.getNextCursor());
+
+        page = bookingService.getAllBookingsItemsUserByCursor(
+                owner.getId(), "WAITING", Cursor.decode(null), 1);
+        Assertions.assertEquals(List.of(booking1), page.getContent());
+
+        page = bookingService.getAllBookingsItemsUserByCursor(
+                owner.getId(), "WAITING", Cursor.decode(page.getNextCursor()), 5);
+        Assertions.assertEquals(List.of(booking2, booking3), page.getContent());
+        Assertions.assertNull(page.getNextCursor());
+
+        IncorrectCursorException e = Assertions.assertThrows(
+                IncorrectCursorException.class,
+                () -> Cursor.decode("not a cursor")
+        );
+        Assertions.assertEquals("Некорректный курсор not a cursor", e.getMessage());
+    }
+
+    @Test
+    void findBookingRowsByItemAndRangeTest() {
+        UserDto owner = createUserDto("owner@email.com");
+        UserDto booker = createUserDto("booker@email.com");
+        ItemOutDto itemOutDto1 = createItemOutDto(owner.getId());
+        ItemOutDto itemOutDto2 = createItemOutDto(owner.getId());
+
+        BookingOutDto booking1 = bookingService.createBooking(
+                new BookingIncDto(itemOutDto1.getId(), start, end), booker.getId());
+        BookingOutDto booking2 = bookingService.createBooking(
+                new BookingIncDto(itemOutDto1.getId(), start.plusDays(5), end.plusDays(5)), booker.getId());
+        bookingService.createBooking(
+                new BookingIncDto(itemOutDto2.getId(), start, end), booker.getId());
+
+        List<Long> ids = bookingRepository.findBookingRows(BookingFilter.builder()
+                        .role(BookingRoleEnum.OWNER)
+                        .userId(owner.getId())
+                        .itemId(itemOutDto1.getId())
+                        .build(), OffsetPageRequest.of(0, 10))
+                .map(BookingRow::getId)
+                .getContent();
+        Assertions.assertEquals(List.of(booking2.getId(), booking1.getId()), ids);
+
+        ids = bookingRepository.findBookingRows(BookingFilter.builder()
+                        .itemId(itemOutDto1.getId())
+                        .rangeStart(end.plusDays(1))
+                        .rangeEnd(end.plusDays(10))
+                        .build(), OffsetPageRequest.of(0, 10))
+                .map(BookingRow::getId)
+                .getContent();
+        Assertions.assertEquals(List.of(booking2.getId()), ids);
+
+        ids = bookingRepository.findBookingRows(BookingFilter.builder()
+                        .role(BookingRoleEnum.BOOKER)
+                        .userId(owner.getId())
+                        .build(), OffsetPageRequest.of(0, 10))
+                .map(BookingRow::getId)
+                .getContent();
+        Assertions.assertEquals(List.of(), ids);
+    }
+
+    @Test
+    void bookingsFetchedInOneStatementTest() {
+        UserDto booker1 = createUserDto("booker1@email.com");
+        UserDto booker2 = createUserDto("booker2@email.com");
+        UserDto owner1 = createUserDto("owner1@email.com");
+        UserDto owner2 = createUserDto("owner2@email.com");
+
+        Long bookingId = bookingService.createBooking(
+                new BookingIncDto(createItemOutDto(owner1.getId()).getId(), start, end), booker1.getId()).getId();
+        for (int i = 0; i < 5; i++) {
+            UserDto owner = createUserDto("owner" + i + "_other@email.com");
+            bookingService.createBooking(
+                    new BookingIncDto(createItemOutDto(owner.getId()).getId(), start, end), booker2.getId());
+            bookingService.createBooking(
+                    new BookingIncDto(createItemOutDto(owner2.getId()).getId(), start, end),
+                    createUserDto("booker" + i + "_other@email.com").getId());
+        }
+
+        Assertions.assertEquals(1, countStatements(() -> bookingService.getBooking(booker1.getId(), bookingId)));
+        Assertions.assertEquals(
+                countStatements(() -> bookingService.getAllBookingsUser(booker1.getId(), "ALL", 0, 10)),
+                countStatements(() -> bookingService.getAllBookingsUser(booker2.getId(), "ALL", 0, 10)));
+        Assertions.assertEquals(
+                countStatements(() -> bookingService.getAllBookingsItemsUser(owner1.getId(), "ALL", 0, 10)),
+                countStatements(() -> bookingService.getAllBookingsItemsUser(owner2.getId(), "ALL", 0, 10)));
+    }
+
+    @Test
+    void bookingListsLoadNoEntitiesTest() {
+        UserDto booker = createUserDto("booker@email.com");
+        for (int i = 0; i < 20; i++) {
+            UserDto owner = createUserDto("owner" + i + "@email.com");
+            bookingService.createBooking(
+                    new BookingIncDto(createItemOutDto(owner.getId()).getId(), start, end), booker.getId());
+        }
+        Supplier<List<BookingOutDto>> rows = () -> bookingService.getAllBookingsUser(booker.getId(), "ALL", 0, 20);
+        Supplier<List<BookingOutDto>> entities = () -> entityManager.createQuery("select b from Booking as b " +
+                        "join fetch b.item as it " +
+                        "join fetch it.owner " +
+                        "left join fetch it.request " +
+                        "join fetch b.booker " +
+                        "where b.booker.id = :userId " +
+                        "order by b.start desc", Booking.class)
+                .setParameter("userId", booker.getId())
+                .setMaxResults(20)
+                .getResultStream()
+                .map(bookingMapper::toBookingOutDtoFromBooking)
+                .toList();
+
+        Assertions.assertEquals(0, QueryStatistics.countAfterFlush(entityManager, rows::get).entityLoads());
+        Assertions.assertTrue(QueryStatistics.countAfterFlush(entityManager, entities::get).entityLoads() > 0);
+        Assertions.assertTrue(allocatedBytes(rows) < allocatedBytes(entities));
+    }
+
+    private long allocatedBytes(Supplier<List<BookingOutDto>> request) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        int warmUp = 50;
+        int requests = 200;
+
+        for (int i = 0; i < warmUp; i++) {
+            entityManager.clear();
+            Assertions.assertEquals(20, request.get().size());
+        }
+
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < requests; i++) {
+            entityManager.clear();
+            request.get();
+        }
+        return (threads.getCurrentThreadAllocatedBytes() - before) / requests;
+    }
+
+    private long countStatements(Runnable action) {
+        return QueryStatistics.countAfterFlush(entityManager, action).statements();
+    }
+
     private UserDto createUserDto(String email) {
         return userService.createUser(new UserDto(null, "user", email));
     }
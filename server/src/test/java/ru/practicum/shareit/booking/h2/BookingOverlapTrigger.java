@@ -0,0 +1,57 @@
+package ru.practicum.shareit.booking.h2;
+
+import org.h2.api.Trigger;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Set;
+
+/*
+ * H2 stand-in for the bookings_no_overlap exclusion constraint used on PostgreSQL.
+ * The item row is locked first so concurrent inserts for one item are checked one after another.
+ */
+public class BookingOverlapTrigger implements Trigger {
+    public static final String EXCLUSION_VIOLATION = "23P01";
+
+    private static final Set<String> ACTIVE_STATUSES = Set.of("WAITING", "APPROVED");
+    private static final int ID = 0;
+    private static final int START_TIME = 1;
+    private static final int END_TIME = 2;
+    private static final int ITEM = 3;
+    private static final int STATUS = 5;
+
+    @Override
+    public void fire(final Connection conn,
+                     final Object[] oldRow,
+                     final Object[] newRow) throws SQLException {
+
+        if (!ACTIVE_STATUSES.contains(String.valueOf(newRow[STATUS])))
+            return;
+
+        try (PreparedStatement lock = conn.prepareStatement("select id from items where id = ? for update")) {
+            lock.setObject(1, newRow[ITEM]);
+            lock.executeQuery().close();
+        }
+
+        try (PreparedStatement overlap = conn.prepareStatement("select count(*) from bookings " +
+                "where item = ? " +
+                "and id <> ? " +
+                "and status in ('WAITING', 'APPROVED') " +
+                "and start_time < ? " +
+                "and end_time > ?")) {
+            overlap.setObject(1, newRow[ITEM]);
+            overlap.setObject(2, newRow[ID] == null ? -1 : newRow[ID]);
+            overlap.setObject(3, newRow[END_TIME]);
+            overlap.setObject(4, newRow[START_TIME]);
+
+            try (ResultSet result = overlap.executeQuery()) {
+                result.next();
+                if (result.getLong(1) > 0)
+                    throw new SQLException("conflicting key value violates exclusion constraint \"bookings_no_overlap\"",
+                            EXCLUSION_VIOLATION);
+            }
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package ru.practicum.shareit.item;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import ru.practicum.shareit.CommittedDataTest;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.BookingService;
+import ru.practicum.shareit.booking.calendar.BookingCalendar;
+import ru.practicum.shareit.booking.dto.model.BookingIncDto;
+import ru.practicum.shareit.booking.dto.model.BookingOutDto;
+import ru.practicum.shareit.booking.enums.BookingStatusEnum;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.exception.IncorrectBookingTimeException;
+import ru.practicum.shareit.exception.IncorrectItemIdException;
+import ru.practicum.shareit.item.dto.model.AvailabilitySlotDto;
+import ru.practicum.shareit.item.dto.model.ItemIncDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.user.UserService;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+public class ItemAvailabilityTests extends CommittedDataTest {
+    private final ItemService itemService;
+    private final UserService userService;
+    private final BookingService bookingService;
+    private final BookingCalendar bookingCalendar;
+    private final BookingRepository bookingRepository;
+    private final ItemRepository itemRepository;
+    private final UserRepository userRepository;
+
+    private final LocalDateTime from = LocalDateTime.now().truncatedTo(ChronoUnit.DAYS).plusDays(1);
+    private final LocalDateTime to = from.plusDays(10);
+
+    private Long ownerId;
+    private Long bookerId;
+    private Long itemId;
+
+    @BeforeEach
+    void createData() {
+        ownerId = userService.createUser(new UserDto(null, "owner", "owner@email.com")).getId();
+        bookerId = userService.createUser(new UserDto(null, "booker", "booker@email.com")).getId();
+        itemId = itemService.createItem(new ItemIncDto("Drill", "Electric drill", true, null), ownerId).getId();
+    }
+
+    @Test
+    void getAvailabilityTest() {
+        Assertions.assertEquals(List.of(new AvailabilitySlotDto(from, to)), itemService.getAvailability(itemId, from, to));
+
+        bookingService.createBooking(new BookingIncDto(itemId, from.minusDays(1), from.plusDays(1)), bookerId);
+        BookingOutDto middle = bookingService.createBooking(
+                new BookingIncDto(itemId, from.plusDays(3), from.plusDays(4)), bookerId);
+        bookingService.createBooking(new BookingIncDto(itemId, from.plusDays(4), from.plusDays(5)), bookerId);
+        bookingService.createBooking(new BookingIncDto(itemId, to, to.plusDays(1)), bookerId);
+
+        List<AvailabilitySlotDto> slots = List.of(
+                new AvailabilitySlotDto(from.plusDays(1), from.plusDays(3)),
+                new AvailabilitySlotDto(from.plusDays(5), to));
+        Assertions.assertEquals(slots, itemService.getAvailability(itemId, from, to));
+
+        bookingCalendar.rebuild();
+        Assertions.assertEquals(slots, itemService.getAvailability(itemId, from, to));
+
+        bookingService.approvedBooking(ownerId, middle.getId(), false);
+        Assertions.assertEquals(List.of(
+                        new AvailabilitySlotDto(from.plusDays(1), from.plusDays(4)),
+                        new AvailabilitySlotDto(from.plusDays(5), to)),
+                itemService.getAvailability(itemId, from, to));
+
+        Assertions.assertEquals(List.of(), itemService.getAvailability(itemId, from.plusDays(4), from.plusDays(5)));
+    }
+
+    @Test
+    void bookingsWithSameStartTest() {
+        Item item = new Item();
+        item.setId(itemId);
+        Booking shorter = new Booking(-1L, from.plusDays(1), from.plusDays(2), item, null, BookingStatusEnum.WAITING, null);
+        Booking longer = new Booking(-2L, from.plusDays(1), from.plusDays(3), item, null, BookingStatusEnum.WAITING, null);
+
+        bookingCalendar.update(shorter);
+        bookingCalendar.update(longer);
+        Assertions.assertEquals(List.of(
+                        new AvailabilitySlotDto(from, from.plusDays(1)),
+                        new AvailabilitySlotDto(from.plusDays(3), to)),
+                itemService.getAvailability(itemId, from, to));
+
+        longer.setStatus(BookingStatusEnum.CANCELED);
+        bookingCalendar.update(longer);
+        Assertions.assertEquals(List.of(
+                        new AvailabilitySlotDto(from, from.plusDays(1)),
+                        new AvailabilitySlotDto(from.plusDays(2), to)),
+                itemService.getAvailability(itemId, from, to));
+
+        shorter.setStatus(BookingStatusEnum.CANCELED);
+        bookingCalendar.update(shorter);
+    }
+
+    @Test
+    void endedBookingsPrunedTest() {
+        Item item = new Item();
+        item.setId(itemId);
+        Booking first = new Booking(-1L, from.plusDays(1), from.plusDays(2), item, null, BookingStatusEnum.APPROVED, null);
+        Booking second = new Booking(-2L, from.plusDays(3), from.plusDays(4), item, null, BookingStatusEnum.APPROVED, null);
+        Booking ended = new Booking(-3L, from.minusDays(3), from.minusDays(2), item, null, BookingStatusEnum.APPROVED, null);
+
+        bookingCalendar.update(first);
+        bookingCalendar.update(second);
+        bookingCalendar.update(ended);
+        Assertions.assertEquals(List.of(new AvailabilitySlotDto(from.minusDays(3), from)),
+                itemService.getAvailability(itemId, from.minusDays(3), from));
+
+        bookingCalendar.prune(from.plusDays(2));
+        Assertions.assertEquals(List.of(
+                        new AvailabilitySlotDto(from, from.plusDays(3)),
+                        new AvailabilitySlotDto(from.plusDays(4), to)),
+                itemService.getAvailability(itemId, from, to));
+
+        second.setStatus(BookingStatusEnum.CANCELED);
+        bookingCalendar.update(second);
+    }
+
+    @Test
+    void rebuildSkipsEndedBookingsTest() {
+        Booking ended = new Booking(null, from.minusDays(3), from.minusDays(2), itemRepository.getReferenceById(itemId),
+                userRepository.getReferenceById(bookerId), BookingStatusEnum.APPROVED, null);
+        bookingRepository.save(ended);
+        bookingService.createBooking(new BookingIncDto(itemId, from.plusDays(1), from.plusDays(2)), bookerId);
+        bookingCalendar.rebuild();
+        Assertions.assertEquals(List.of(new AvailabilitySlotDto(from.minusDays(3), from)),
+                itemService.getAvailability(itemId, from.minusDays(3), from));
+        Assertions.assertEquals(List.of(
+                        new AvailabilitySlotDto(from, from.plusDays(1)),
+                        new AvailabilitySlotDto(from.plusDays(2), to)),
+                itemService.getAvailability(itemId, from, to));
+    }
+
+    @Test
+    void getAvailabilityWithIncorrectDataTest() {
+        IncorrectItemIdException e = Assertions.assertThrows(
+                IncorrectItemIdException.class,
+                () -> itemService.getAvailability(itemId + 1000, from, to)
+        );
+        Assertions.assertEquals("Вещь с id " + (itemId + 1000) + " не найдена.", e.getMessage());
+
+        IncorrectBookingTimeException e1 = Assertions.assertThrows(
+                IncorrectBookingTimeException.class,
+                () -> itemService.getAvailability(itemId, to, from)
+        );
+        Assertions.assertEquals("Начало периода должно быть раньше его окончания", e1.getMessage());
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.exception.IncorrectBookingTimeException;
 import ru.practicum.shareit.exception.IncorrectItemIdException;
 import ru.practicum.shareit.exception.IncorrectRequestIdException;
 import ru.practicum.shareit.exception.IncorrectUserIdException;
@@ -15,9 +16,12 @@ import ru.practicum.shareit.user.dto.UserDto;
 
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -59,6 +63,62 @@ public class ItemControllerTests {
                 .andExpect(jsonPath("$.owner.email").value("user@email.com"));
     }
 
+    @Test
+    void createItemsTest() throws Exception {
+        when(itemService.createItems(any(), anyLong()))
+                .thenAnswer(invocation -> {
+                    List<ItemIncDto> itemDtos = invocation.getArgument(0);
+                    List<Long> ids = new ArrayList<>();
+                    for (ItemIncDto itemDto : itemDtos)
+                        ids.add(ids.size() + 1L + (itemDto.getName().equals("item") ? 0 : 100));
+                    return ids;
+                });
+
+        mvc.perform(post("/items/bulk")
+                        .content(mapper.writeValueAsString(List.of(
+                                new ItemIncDto("item", "description", true, null),
+                                new ItemIncDto("other", "description", true, 1L))))
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .header(userIdHead, 1))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0]").value(1L))
+                .andExpect(jsonPath("$[1]").value(102L));
+    }
+
+    @Test
+    void createItemsWithMalformedBodyTest() throws Exception {
+        mvc.perform(post("/items/bulk")
+                        .content("[{\"name\": \"item\"}, {\"name\": ")
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .header(userIdHead, 1))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Передан некорректный список вещей"))
+                .andExpect(jsonPath("$.path").value("/items"));
+    }
+
+    @Test
+    void createItemsOverLimitTest() throws Exception {
+        List<ItemIncDto> itemDtos = new ArrayList<>();
+        for (int i = 0; i <= 5000; i++)
+            itemDtos.add(new ItemIncDto("item", "description", true, null));
+
+        mvc.perform(post("/items/bulk")
+                        .content(mapper.writeValueAsString(itemDtos))
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .header(userIdHead, 1))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("За один запрос можно добавить не более 5000 вещей"))
+                .andExpect(jsonPath("$.path").value("/items"));
+
+        verify(itemService, never()).createItems(any(), anyLong());
+    }
+
     @Test
     void createItemWithIncorrectUserIdTest() throws Exception {
         when(itemService.createItem(any(), anyLong()))
@@ -240,13 +300,49 @@ public class ItemControllerTests {
                 .andExpect(jsonPath("[4].comments").isEmpty());
     }
 
+    @Test
+    void getAvailabilityTest() throws Exception {
+        LocalDateTime from = LocalDateTime.of(2030, 1, 1, 0, 0);
+        LocalDateTime to = from.plusDays(10);
+        when(itemService.getAvailability(anyLong(), any(), any()))
+                .thenReturn(List.of(new AvailabilitySlotDto(from, from.plusDays(2)),
+                        new AvailabilitySlotDto(from.plusDays(5), to)));
+
+        mvc.perform(get("/items/1/availability")
+                        .param("from", from.toString())
+                        .param("to", to.toString())
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("[0].start").value("2030-01-01T00:00:00"))
+                .andExpect(jsonPath("[0].end").value("2030-01-03T00:00:00"))
+                .andExpect(jsonPath("[1].start").value("2030-01-06T00:00:00"))
+                .andExpect(jsonPath("[1].end").value("2030-01-11T00:00:00"));
+    }
+
+    @Test
+    void getAvailabilityWithIncorrectPeriodTest() throws Exception {
+        when(itemService.getAvailability(anyLong(), any(), any()))
+                .thenThrow(new IncorrectBookingTimeException("Начало периода должно быть раньше его окончания"));
+
+        mvc.perform(get("/items/1/availability")
+                        .param("from", "2030-01-02T00:00:00")
+                        .param("to", "2030-01-01T00:00:00")
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400))
+                .andExpect(jsonPath("$.error").value("Начало периода должно быть раньше его окончания"))
+                .andExpect(jsonPath("$.path").value("/items"));
+    }
+
     @Test
     void searchItemsTest() throws Exception {
         List<ItemOutDto> items = getItemsOutDto();
-        when(itemService.searchItems(any()))
+        when(itemService.searchItems(any(), anyInt(), anyInt()))
                 .thenReturn(items);
 
-        mvc.perform(get("/items/search?text=item")
+        mvc.perform(get("/items/search?text=item&from=0&size=10")
                         .characterEncoding(StandardCharsets.UTF_8)
                         .contentType(MediaType.APPLICATION_JSON)
                         .accept(MediaType.APPLICATION_JSON)
@@ -0,0 +1,94 @@
+package ru.practicum.shareit.item;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.item.dto.model.ItemIncDto;
+import ru.practicum.shareit.item.dto.model.ItemOutDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
+import ru.practicum.shareit.pagination.OffsetPageRequest;
+import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.user.UserService;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {"spring.profiles.active=test", "shareit.search.index.enabled=true"})
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+public class ItemSearchIndexTests {
+    private final ItemService itemService;
+    private final UserService userService;
+    private final ItemSearchIndex searchIndex;
+    private final ItemRepository itemRepository;
+    private final UserRepository userRepository;
+    private final List<Long> itemIds = new ArrayList<>();
+    private final List<Long> userIds = new ArrayList<>();
+
+    private final List<String> queries = List.of(
+            "drill", "DRI", "saw", "ll", "x", "er", "3 m", "hand", "ladder", "random text");
+
+    @AfterEach
+    void cleanUp() {
+        itemRepository.deleteAllById(itemIds);
+        userRepository.deleteAllById(userIds);
+        searchIndex.rebuild();
+    }
+
+    @Test
+    void indexMatchesSqlSearchTest() {
+        Long ownerId = createUser("owner@email.com");
+        createItem("Drill", "Electric drill", true, ownerId);
+        createItem("Hammer", "Use with a drill", true, ownerId);
+        createItem("Old drill", "Broken", false, ownerId);
+        Long sawId = createItem("Saw", "Hand saw", true, ownerId);
+        Long ladderId = createItem("Ladder", "3 meters", true, ownerId);
+        assertConsistentWithSql();
+
+        itemService.updateItem(sawId, new ItemIncDto("Drill saw", null, null, null), ownerId);
+        itemService.updateItem(ladderId, new ItemIncDto(null, null, false, null), ownerId);
+        assertConsistentWithSql();
+
+        searchIndex.rebuild();
+        assertConsistentWithSql();
+    }
+
+    private void assertConsistentWithSql() {
+        for (String query : queries) {
+            assertConsistentWithSql(query, 0, 10);
+            assertConsistentWithSql(query, 1, 2);
+        }
+    }
+
+    private void assertConsistentWithSql(String query, int from, int size) {
+        List<Long> sqlIds = itemRepository.searchByNameOrDescription(
+                        "%" + query.toLowerCase(Locale.ROOT) + "%", OffsetPageRequest.of(from, size))
+                .stream()
+                .map(Item::getId)
+                .toList();
+        List<Long> indexIds = itemService.searchItems(query, from, size)
+                .stream()
+                .map(ItemOutDto::getId)
+                .toList();
+
+        Assertions.assertEquals(sqlIds, indexIds, "query=" + query + ", from=" + from + ", size=" + size);
+    }
+
+    private Long createUser(String email) {
+        Long id = userService.createUser(new UserDto(null, "owner", email)).getId();
+        userIds.add(id);
+        return id;
+    }
+
+    private Long createItem(String name, String description, boolean available, Long ownerId) {
+        Long id = itemService.createItem(new ItemIncDto(name, description, available, null), ownerId).getId();
+        itemIds.add(id);
+        return id;
+    }
+}
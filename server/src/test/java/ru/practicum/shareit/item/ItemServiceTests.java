@@ -1,11 +1,13 @@
 package ru.practicum.shareit.item;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.QueryStatistics;
 import ru.practicum.shareit.booking.BookingService;
 import ru.practicum.shareit.booking.dto.model.BookingIncDto;
 import ru.practicum.shareit.booking.dto.model.BookingOutDto;
@@ -14,6 +16,8 @@ import ru.practicum.shareit.exception.IncorrectItemIdException;
 import ru.practicum.shareit.exception.IncorrectRequestIdException;
 import ru.practicum.shareit.exception.IncorrectUserIdException;
 import ru.practicum.shareit.item.dto.model.*;
+import ru.practicum.shareit.pagination.Cursor;
+import ru.practicum.shareit.pagination.CursorPage;
 import ru.practicum.shareit.request.RequestService;
 import ru.practicum.shareit.request.dto.model.RequestIncDto;
 import ru.practicum.shareit.request.dto.model.RequestOutDto;
@@ -21,6 +25,8 @@ import ru.practicum.shareit.user.UserService;
 import ru.practicum.shareit.user.dto.UserDto;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 
 
@@ -33,6 +39,7 @@ public class ItemServiceTests {
     private final UserService userService;
     private final RequestService requestService;
     private final BookingService bookingService;
+    private final EntityManager entityManager;
 
     @Test
     void createItemTest() {
@@ -81,6 +88,58 @@ public class ItemServiceTests {
         Assertions.assertEquals("Запрос с id 1000 не найден", e.getMessage());
     }
 
+    @Test
+    void createItemsTest() {
+        UserDto owner = getOwner();
+        UserDto requestor = userService.createUser(new UserDto(null, "requestor", "requestor@email.com"));
+        RequestOutDto request = requestService.createRequest(
+                requestor.getId(), new RequestIncDto(null, "Request description"));
+
+        List<ItemIncDto> itemDtos = new ArrayList<>();
+        for (int i = 0; i < 1200; i++)
+            itemDtos.add(new ItemIncDto("item" + i, "description" + i, true, i % 100 == 0 ? request.getId() : null));
+
+        List<Long> ids = itemService.createItems(itemDtos, owner.getId());
+
+        Assertions.assertEquals(1200, ids.size());
+        Assertions.assertEquals(1200, ids.stream().distinct().count());
+        Assertions.assertEquals(1200, itemService.getItemsUser(owner.getId(), 0, 2000).size());
+        Assertions.assertEquals("item100", itemService.getItem(ids.get(100), owner.getId()).getName());
+        Assertions.assertEquals(request.getId(), itemService.getItem(ids.get(100), owner.getId()).getRequest().getId());
+        Assertions.assertNull(itemService.getItem(ids.get(101), owner.getId()).getRequest());
+    }
+
+    @Test
+    void createItemsUsesBatchInsertsTest() {
+        UserDto owner = getOwner();
+        List<ItemIncDto> itemDtos = new ArrayList<>();
+        for (int i = 0; i < 200; i++)
+            itemDtos.add(new ItemIncDto("item" + i, "description" + i, true, null));
+
+        long statements = countStatements(() -> itemService.createItems(itemDtos, owner.getId()));
+
+        Assertions.assertTrue(statements < 20, "Выполнено запросов: " + statements);
+    }
+
+    @Test
+    void createItemsWithIncorrectDataTest() {
+        UserDto owner = getOwner();
+
+        IncorrectUserIdException e1 = Assertions.assertThrows(
+                IncorrectUserIdException.class,
+                () -> itemService.createItems(List.of(new ItemIncDto("item", "description", true, null)), 1000L)
+        );
+        Assertions.assertEquals("Пользователь с id 1000 не найден.", e1.getMessage());
+
+        IncorrectRequestIdException e2 = Assertions.assertThrows(
+                IncorrectRequestIdException.class,
+                () -> itemService.createItems(List.of(
+                        new ItemIncDto("item", "description", true, null),
+                        new ItemIncDto("item", "description", true, 1000L)), owner.getId())
+        );
+        Assertions.assertEquals("Запрос с id 1000 не найден", e2.getMessage());
+    }
+
     @Test
     void updateItem() {
         UserDto owner = getOwner();
@@ -141,8 +200,9 @@ public class ItemServiceTests {
                 new ItemIncDto("item", "description", true, null), owner.getId()
         ).getId();
 
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
         BookingOutDto booking1 = bookingService.createBooking(
-                new BookingIncDto(itemId, LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2)), booker.getId());
+                new BookingIncDto(itemId, now.plusDays(1), now.plusDays(2)), booker.getId());
         bookingService.createBooking(
                 new BookingIncDto(itemId, LocalDateTime.now().plusDays(3), LocalDateTime.now().plusDays(4)), booker.getId());
 
@@ -188,11 +248,56 @@ public class ItemServiceTests {
         itemsIs = itemService.getItemsUser(owner.getId(), 0, 2);
         Assertions.assertEquals(itemsIs, itemsMust);
 
-        itemsMust = List.of(item3, item4);
+        itemsMust = List.of(item2, item3);
         itemsIs = itemService.getItemsUser(owner.getId(), 1, 2);
         Assertions.assertEquals(itemsIs, itemsMust);
     }
 
+    @Test
+    void getItemsUserWithBookingsTest() {
+        UserDto owner = getOwner();
+        UserDto booker = userService.createUser(new UserDto(null, "booker", "booker@email.com"));
+        Long itemId1 = itemService.createItem(new ItemIncDto("item1", "description1", true, null), owner.getId()).getId();
+        Long itemId2 = itemService.createItem(new ItemIncDto("item2", "description2", true, null), owner.getId()).getId();
+
+        BookingOutDto last = bookingService.createBooking(new BookingIncDto(itemId1,
+                LocalDateTime.now().minusDays(3), LocalDateTime.now().minusDays(2)), booker.getId());
+        bookingService.approvedBooking(owner.getId(), last.getId(), true);
+        BookingOutDto next1 = bookingService.createBooking(new BookingIncDto(itemId1,
+                LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2)), booker.getId());
+        bookingService.createBooking(new BookingIncDto(itemId1,
+                LocalDateTime.now().plusDays(3), LocalDateTime.now().plusDays(4)), booker.getId());
+        BookingOutDto next2 = bookingService.createBooking(new BookingIncDto(itemId2,
+                LocalDateTime.now().plusDays(5), LocalDateTime.now().plusDays(6)), booker.getId());
+
+        List<ItemWidthBookingsTimeDto> items = itemService.getItemsUser(owner.getId(), 0, 10);
+
+        Assertions.assertEquals(last.getId(), items.get(0).getLastBooking().getId());
+        Assertions.assertEquals(next1.getId(), items.get(0).getNextBooking().getId());
+        Assertions.assertNull(items.get(1).getLastBooking());
+        Assertions.assertEquals(next2.getId(), items.get(1).getNextBooking().getId());
+        Assertions.assertEquals(items.get(0), itemService.getItem(itemId1, owner.getId()));
+    }
+
+    @Test
+    void getItemsUserByCursorTest() {
+        UserDto owner = getOwner();
+        Long itemId1 = itemService.createItem(new ItemIncDto("item1", "description1", true, null), owner.getId()).getId();
+        Long itemId2 = itemService.createItem(new ItemIncDto("item2", "description2", true, null), owner.getId()).getId();
+        Long itemId3 = itemService.createItem(new ItemIncDto("item3", "description3", true, null), owner.getId()).getId();
+
+        CursorPage<ItemWidthBookingsTimeDto> page = itemService.getItemsUserByCursor(owner.getId(), Cursor.decode(null), 2);
+        Assertions.assertEquals(List.of(itemId1, itemId2),
+                page.getContent().stream().map(ItemWidthBookingsTimeDto::getId).toList());
+        Assertions.assertNotNull(page.getNextCursor());
+
+        page = itemService.getItemsUserByCursor(owner.getId(), Cursor.decode(page.getNextCursor()), 2);
+        Assertions.assertEquals(List.of(itemId3),
+                page.getContent().stream().map(ItemWidthBookingsTimeDto::getId).toList());
+        Assertions.assertNull(page.getNextCursor());
+        Assertions.assertEquals(page.getContent().get(0), itemService.getItem(itemId3, owner.getId()));
+    }
+
     @Test
     void searchItems() {
         UserDto owner = getOwner();
@@ -212,14 +317,31 @@ public class ItemServiceTests {
         item5.setComments(List.of());
 
 
-        List<ItemOutDto> itemsIs = itemService.searchItems("item");
+        List<ItemOutDto> itemsIs = itemService.searchItems("item", 0, 10);
         List<ItemOutDto> itemsMust = List.of(item1, item2, item4);
         Assertions.assertEquals(itemsIs, itemsMust);
 
-        itemsIs = itemService.searchItems("random text");
+        itemsIs = itemService.searchItems("item", 1, 2);
+        Assertions.assertEquals(itemsIs, List.of(item2, item4));
+
+        itemsIs = itemService.searchItems("random text", 0, 10);
         Assertions.assertEquals(itemsIs, List.of());
     }
 
+    @Test
+    void searchItemsRankingTest() {
+        UserDto owner = getOwner();
+        ItemOutDto hammer = itemService.createItem(new ItemIncDto("Hammer", "Use with a drill", true, null), owner.getId());
+        hammer.setComments(List.of());
+
+        ItemOutDto drill = itemService.createItem(new ItemIncDto("Drill", "Electric", true, null), owner.getId());
+        drill.setComments(List.of());
+
+        itemService.createItem(new ItemIncDto("Old drill", "Broken", false, null), owner.getId());
+
+        Assertions.assertEquals(itemService.searchItems("DRILL", 0, 10), List.of(drill, hammer));
+    }
+
     @Test
     void addCommentTest() {
         UserDto owner = getOwner();
@@ -243,6 +365,40 @@ public class ItemServiceTests {
         Assertions.assertEquals(itemIs.getComments(), List.of(commentIs1, commentIs2));
     }
 
+    @Test
+    void getItemsUserQueryCountTest() {
+        UserDto owner1 = userService.createUser(new UserDto(null, "owner1", "owner1@email.com"));
+        UserDto owner2 = userService.createUser(new UserDto(null, "owner2", "owner2@email.com"));
+        addItemsWithComments(owner1, 1);
+        addItemsWithComments(owner2, 5);
+
+        long statementsOneItem = countStatements(() -> itemService.getItemsUser(owner1.getId(), 0, 100));
+        long statementsFiveItems = countStatements(() -> itemService.getItemsUser(owner2.getId(), 0, 100));
+
+        Assertions.assertEquals(statementsOneItem, statementsFiveItems);
+        Assertions.assertEquals(5, itemService.getItemsUser(owner2.getId(), 0, 100)
+                .stream()
+                .filter(item -> item.getComments().size() == 1)
+                .count());
+    }
+
+    private void addItemsWithComments(UserDto owner, int count) {
+        for (int i = 0; i < count; i++) {
+            UserDto booker = userService.createUser(
+                    new UserDto(null, "booker", owner.getId() + "booker" + i + "@email.com"));
+            Long itemId = itemService.createItem(
+                    new ItemIncDto("item" + i, "description" + i, true, null), owner.getId()).getId();
+            BookingOutDto booking = bookingService.createBooking(new BookingIncDto(itemId,
+                    LocalDateTime.now().minusDays(2), LocalDateTime.now().minusDays(1)), booker.getId());
+            bookingService.approvedBooking(owner.getId(), booking.getId(), true);
+            itemService.addComment(new CommentIncDto("comment" + i), itemId, booker.getId());
+        }
+    }
+
+    private long countStatements(Runnable action) {
+        return QueryStatistics.countAfterFlush(entityManager, action).statements();
+    }
+
     private UserDto getOwner() {
         return userService.createUser(new UserDto(null, "owner", "owner@email.com"));
     }
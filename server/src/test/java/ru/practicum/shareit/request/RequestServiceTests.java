@@ -11,6 +11,8 @@ import ru.practicum.shareit.item.ItemService;
 import ru.practicum.shareit.item.dto.model.ItemIncDto;
 import ru.practicum.shareit.item.dto.model.ItemOutDto;
 import ru.practicum.shareit.item.dto.model.ItemToRequestDto;
+import ru.practicum.shareit.pagination.Cursor;
+import ru.practicum.shareit.pagination.CursorPage;
 import ru.practicum.shareit.request.dto.model.RequestIncDto;
 import ru.practicum.shareit.request.dto.model.RequestOutDto;
 import ru.practicum.shareit.request.dto.model.RequestWithItemDto;
@@ -102,6 +104,35 @@ public class RequestServiceTests {
         Assertions.assertEquals(requestsIs, requestsMust);
     }
 
+    @Test
+    void getAllRequestsByCursorTest() {
+        UserDto requestor = userService.createUser(new UserDto(null, "requestor", "requestor@email.com"));
+        UserDto requestor2 = userService.createUser(new UserDto(null, "requestor2", "requestor2@email.com"));
+
+        RequestOutDto requestOutDto1 = requestService
+                .createRequest(requestor.getId(), new RequestIncDto(null, "description"));
+
+        RequestOutDto requestOutDto2 = requestService
+                .createRequest(requestor.getId(), new RequestIncDto(null, "description"));
+
+        RequestOutDto requestOutDto3 = requestService
+                .createRequest(requestor.getId(), new RequestIncDto(null, "description"));
+
+        CursorPage<RequestOutDto> page = requestService.getAllRequestsByCursor(requestor2.getId(), Cursor.decode(null), 2);
+        Assertions.assertEquals(List.of(requestOutDto1, requestOutDto2), page.getContent());
+        Assertions.assertNotNull(page.getNextCursor());
+
+        page = requestService.getAllRequestsByCursor(requestor2.getId(), Cursor.decode(page.getNextCursor()), 2);
+        Assertions.assertEquals(List.of(requestOutDto3), page.getContent());
+        Assertions.assertNull(page.getNextCursor());
+
+        IncorrectUserIdException e = Assertions.assertThrows(
+                IncorrectUserIdException.class,
+                () -> requestService.getAllRequestsByCursor(1000L, Cursor.decode(null), 2)
+        );
+        Assertions.assertEquals("Пользователь с id 1000 не найден", e.getMessage());
+    }
+
     @Test
     void getAllRequestsWithIncorrectUserIdTest() {
         IncorrectUserIdException e = Assertions.assertThrows(
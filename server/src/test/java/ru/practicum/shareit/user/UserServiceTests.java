@@ -1,13 +1,21 @@
 package ru.practicum.shareit.user;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.QueryStatistics;
 import ru.practicum.shareit.exception.DataException;
 import ru.practicum.shareit.exception.IncorrectUserIdException;
+import ru.practicum.shareit.pagination.Cursor;
+import ru.practicum.shareit.pagination.CursorPage;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.model.ResponseToUserDeletion;
 
@@ -19,6 +27,11 @@ import java.util.List;
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
 public class UserServiceTests {
     private final UserService userService;
+    private final CacheManager cacheManager;
+    private final MeterRegistry meterRegistry;
+    private final UserValidationService userValidationService;
+    private final UserRepository userRepository;
+    private final EntityManager entityManager;
 
     @Test
     void createUserTest() {
@@ -128,13 +141,109 @@ public class UserServiceTests {
         Assertions.assertEquals(allUsersMust, allUsersIs);
 
         allUsersIs = userService.getAllUsers(1, 2);
-        allUsersMust = List.of(userDto3, userDto4);
+        allUsersMust = List.of(userDto2, userDto3);
 
         Assertions.assertEquals(allUsersMust, allUsersIs);
 
-        allUsersIs = userService.getAllUsers(3, 2);
+        allUsersIs = userService.getAllUsers(4, 2);
+        allUsersMust = List.of(userDto5);
+
+        Assertions.assertEquals(allUsersMust, allUsersIs);
+
+        allUsersIs = userService.getAllUsers(5, 2);
         allUsersMust = List.of();
 
         Assertions.assertEquals(allUsersMust, allUsersIs);
     }
+
+    @Test
+    void getAllUsersIssuesSingleStatementTest() {
+        for (int i = 1; i <= 5; i++)
+            userService.createUser(new UserDto(null, "name" + i, "user" + i + "@email.com"));
+
+        QueryStatistics.Counts allUsers = measure(1, () -> userService.getAllUsers(1, 2));
+
+        Assertions.assertEquals(1, allUsers.statements());
+    }
+
+    @Test
+    void getAllUsersByCursorTest() {
+        UserDto userDto1 = userService.createUser(new UserDto(null, "name1", "user1@email.com"));
+        UserDto userDto2 = userService.createUser(new UserDto(null, "name2", "user2@email.com"));
+        UserDto userDto3 = userService.createUser(new UserDto(null, "name3", "user3@email.com"));
+
+        CursorPage<UserDto> page = userService.getAllUsersByCursor(Cursor.decode(null), 2);
+        Assertions.assertEquals(List.of(userDto1, userDto2), page.getContent());
+        Assertions.assertNotNull(page.getNextCursor());
+
+        page = userService.getAllUsersByCursor(Cursor.decode(page.getNextCursor()), 2);
+        Assertions.assertEquals(List.of(userDto3), page.getContent());
+        Assertions.assertNull(page.getNextCursor());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void getUserCachedTest() {
+        Long id = userService.createUser(new UserDto(null, "user", "user@email.com")).getId();
+        Cache cache = cacheManager.getCache("users");
+        double hits = cacheGets("hit");
+
+        userService.getUser(id);
+        userService.getUser(id);
+
+        Assertions.assertEquals(hits + 1, cacheGets("hit"));
+        Assertions.assertNotNull(cache.get(id));
+
+        userService.updateUser(id, new UserDto(null, "updName", null));
+
+        Assertions.assertNull(cache.get(id));
+        Assertions.assertEquals("updName", userService.getUser(id).getName());
+
+        userService.delUser(id);
+
+        Assertions.assertNull(cache.get(id));
+    }
+
+    @Test
+    void checkUserExistsTest() {
+        Long id = userService.createUser(new UserDto(null, "user", "user@email.com")).getId();
+
+        Assertions.assertDoesNotThrow(() -> userValidationService.checkUserExists(id));
+
+        IncorrectUserIdException e = Assertions.assertThrows(
+                IncorrectUserIdException.class,
+                () -> userValidationService.checkUserExists(id + 100)
+        );
+        Assertions.assertEquals("Пользователь с id " + (id + 100) + " не найден", e.getMessage());
+    }
+
+    @Test
+    void checkUserExistsLoadsNoEntitiesTest() {
+        Long id = userService.createUser(new UserDto(null, "user", "user@email.com")).getId();
+        int requests = 500;
+
+        QueryStatistics.Counts findById = measure(requests, () -> userRepository.findById(id).orElseThrow());
+        QueryStatistics.Counts existsById = measure(requests, () -> userValidationService.checkUserExists(id));
+
+        Assertions.assertEquals(requests, findById.entityLoads());
+        Assertions.assertEquals(0, existsById.entityLoads());
+        Assertions.assertEquals(requests, existsById.statements());
+    }
+
+    private QueryStatistics.Counts measure(int requests, Runnable action) {
+        return QueryStatistics.countAfterFlush(entityManager, () -> {
+            for (int i = 0; i < requests; i++) {
+                entityManager.clear();
+                action.run();
+            }
+        });
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", "users")
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
 }
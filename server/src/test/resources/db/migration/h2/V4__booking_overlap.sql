@@ -0,0 +1,3 @@
+CREATE TRIGGER bookings_no_overlap
+	BEFORE INSERT, UPDATE ON public.bookings
+	FOR EACH ROW CALL "ru.practicum.shareit.booking.h2.BookingOverlapTrigger";
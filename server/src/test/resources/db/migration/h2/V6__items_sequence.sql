@@ -0,0 +1,7 @@
+ALTER TABLE public.items ALTER COLUMN id DROP IDENTITY;
+
+CREATE SEQUENCE public.items_seq INCREMENT BY 50;
+
+ALTER SEQUENCE public.items_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM public.items);
+
+ALTER TABLE public.items ALTER COLUMN id SET DEFAULT NEXT VALUE FOR public.items_seq;
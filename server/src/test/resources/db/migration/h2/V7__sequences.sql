@@ -0,0 +1,31 @@
+ALTER TABLE public.users ALTER COLUMN id DROP IDENTITY;
+
+CREATE SEQUENCE public.users_seq INCREMENT BY 50;
+
+ALTER SEQUENCE public.users_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM public.users);
+
+ALTER TABLE public.users ALTER COLUMN id SET DEFAULT NEXT VALUE FOR public.users_seq;
+
+ALTER TABLE public.item_requests ALTER COLUMN id DROP IDENTITY;
+
+CREATE SEQUENCE public.item_requests_seq INCREMENT BY 50;
+
+ALTER SEQUENCE public.item_requests_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM public.item_requests);
+
+ALTER TABLE public.item_requests ALTER COLUMN id SET DEFAULT NEXT VALUE FOR public.item_requests_seq;
+
+ALTER TABLE public.bookings ALTER COLUMN id DROP IDENTITY;
+
+CREATE SEQUENCE public.bookings_seq INCREMENT BY 50;
+
+ALTER SEQUENCE public.bookings_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM public.bookings);
+
+ALTER TABLE public.bookings ALTER COLUMN id SET DEFAULT NEXT VALUE FOR public.bookings_seq;
+
+ALTER TABLE public.comments ALTER COLUMN id DROP IDENTITY;
+
+CREATE SEQUENCE public.comments_seq INCREMENT BY 50;
+
+ALTER SEQUENCE public.comments_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM public.comments);
+
+ALTER TABLE public.comments ALTER COLUMN id SET DEFAULT NEXT VALUE FOR public.comments_seq;